@@ -0,0 +1,19 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The {@code state} filter of the booking list endpoints, as a parameter of only the benchmarks
+ * that take it.
+ */
+@State(Scope.Benchmark)
+public class BookingState {
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private String state;
+
+    public String getState() {
+        return state;
+    }
+}
@@ -0,0 +1,173 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The queries the indexes of schema.sql and schema-postgresql.sql serve, on PostgreSQL over the
+ * dataset generator's millions of rows: the booker and owner listings, the last and next bookings
+ * of an owner's items and {@code findAllByRequestIn}. Each trial reloads the dataset, runs
+ * {@code ANALYZE} and prints {@code EXPLAIN (ANALYZE, BUFFERS)} of the SQL each benchmark issues,
+ * so the timings come with the plans behind them. Needs the database of the default profile;
+ * volumes are {@code shareit.dataset.*} and can be overridden with {@code -jvmArgsAppend -D...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexBenchmark {
+    private static final int PAGE = 20;
+    private static final int ITEMS_PAGE = 10;
+    /**
+     * Hibernate's statement for the listings with the item and booker fetched; the slice reads one row
+     * past the page.
+     */
+    private static final String LISTING = "SELECT b.*, i.*, u.* FROM bookings b " +
+            "LEFT JOIN items i ON i.id = b.item_id LEFT JOIN users u ON u.id = b.booker_id WHERE ";
+    private static final String LISTING_ORDER = " ORDER BY b.start_date DESC, b.id DESC LIMIT " + (PAGE + 1);
+    private static final Map<String, String> STATE_CRITERIA = Map.of(
+            "ALL", "",
+            "CURRENT", " AND b.start_date < :now AND b.end_date > :now",
+            "PAST", " AND b.end_date < :now",
+            "FUTURE", " AND b.start_date > :now",
+            "WAITING", " AND b.status = :state",
+            "REJECTED", " AND b.status = :state");
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private BookingRepository bookingRepository;
+    private ItemRepository itemRepository;
+    private int bookerId;
+    private int ownerId;
+    private int itemId;
+    private List<Integer> itemIds;
+    private List<Integer> requestIds;
+    private List<ItemRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dataset")
+                .properties("logging.level.root=WARN", "shareit.dataset.users=20000",
+                        "shareit.dataset.requests=50000", "shareit.dataset.items=200000",
+                        "shareit.dataset.bookings=2000000", "shareit.dataset.comments=200000")
+                .run();
+        bookingService = context.getBean(BookingService.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("ANALYZE users, requests, items, bookings, comments");
+        bookerId = heaviest(jdbcTemplate, "SELECT booker_id FROM bookings GROUP BY booker_id ORDER BY COUNT(*) DESC");
+        ownerId = heaviest(jdbcTemplate, "SELECT owner_id FROM items GROUP BY owner_id ORDER BY COUNT(*) DESC");
+        itemId = heaviest(jdbcTemplate, "SELECT b.item_id FROM bookings b JOIN items i ON i.id = b.item_id " +
+                "WHERE i.owner_id = " + ownerId + " GROUP BY b.item_id ORDER BY COUNT(*) DESC");
+        itemIds = jdbcTemplate.queryForList("SELECT id FROM items WHERE owner_id = ? ORDER BY id LIMIT " + ITEMS_PAGE,
+                Integer.class, ownerId);
+        int requesterId = heaviest(jdbcTemplate,
+                "SELECT requester_id FROM requests GROUP BY requester_id ORDER BY COUNT(*) DESC");
+        requestIds = jdbcTemplate.queryForList("SELECT id FROM requests WHERE requester_id = ?", Integer.class,
+                requesterId);
+        requests = context.getBean(ItemRequestRepository.class).findAllById(requestIds);
+        explain(new NamedParameterJdbcTemplate(jdbcTemplate), LocalDateTime.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingAllFieldsDto> getAllBookings(BookingState booking) {
+        return bookingService.getAllBookings(bookerId, booking.getState(), 0, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingAllFieldsDto> getBookingsByOwnerId(BookingState booking) {
+        return bookingService.getBookingsByOwnerId(ownerId, booking.getState(), 0, PAGE);
+    }
+
+    @Benchmark
+    public List<Booking> findLastAndNextBookingsByItemIds() {
+        return bookingRepository.findLastAndNextBookingsByItemIds(itemIds, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public List<Booking> findLastBookingByItemId() {
+        return bookingRepository.findLastBookingByItemId(itemId, ownerId, LocalDateTime.now(), PageRequest.of(0, 1));
+    }
+
+    @Benchmark
+    public List<Booking> findNextBookingByItemId() {
+        return bookingRepository.findNextBookingByItemId(itemId, ownerId, LocalDateTime.now(), PageRequest.of(0, 1));
+    }
+
+    @Benchmark
+    public List<Item> findAllByRequestIn() {
+        return itemRepository.findAllByRequestIn(requests);
+    }
+
+    /**
+     * Prints the plans of the statements above, written as Hibernate issues them, with the same arguments.
+     */
+    private void explain(NamedParameterJdbcTemplate jdbcTemplate, LocalDateTime now) {
+        var params = new HashMap<String, Object>(Map.of("bookerId", bookerId, "ownerId", ownerId, "itemId", itemId,
+                "itemIds", itemIds, "requestIds", requestIds, "now", now));
+        STATE_CRITERIA.forEach((state, criteria) -> {
+            params.put("state", state);
+            explain(jdbcTemplate, "getAllBookings " + state,
+                    LISTING + "b.booker_id = :bookerId" + criteria + LISTING_ORDER, params);
+            explain(jdbcTemplate, "getBookingsByOwnerId " + state,
+                    LISTING + "i.owner_id = :ownerId" + criteria + LISTING_ORDER, params);
+        });
+        explain(jdbcTemplate, "findLastAndNextBookingsByItemIds",
+                "SELECT id, start_date, end_date, item_id, booker_id, status, version FROM (" +
+                        "SELECT b.*, ROW_NUMBER() OVER (" +
+                        "PARTITION BY b.item_id, CASE WHEN b.end_date < :now THEN 0 ELSE 1 END " +
+                        "ORDER BY CASE WHEN b.end_date < :now THEN b.end_date END DESC, b.start_date ASC) AS rn " +
+                        "FROM bookings b WHERE b.item_id IN (:itemIds) " +
+                        "AND (b.end_date < :now OR b.start_date > :now)) ranked WHERE ranked.rn = 1", params);
+        explain(jdbcTemplate, "findLastBookingByItemId",
+                "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id WHERE b.item_id = :itemId " +
+                        "AND i.owner_id = :ownerId AND b.status <> 'REJECTED' AND b.start_date <= :now " +
+                        "ORDER BY b.end_date DESC LIMIT 1", params);
+        explain(jdbcTemplate, "findNextBookingByItemId",
+                "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id WHERE b.item_id = :itemId " +
+                        "AND i.owner_id = :ownerId AND b.status <> 'REJECTED' AND b.start_date >= :now " +
+                        "ORDER BY b.start_date ASC LIMIT 1", params);
+        explain(jdbcTemplate, "findAllByRequestIn",
+                "SELECT * FROM items WHERE request_id IN (:requestIds)", params);
+    }
+
+    private static void explain(NamedParameterJdbcTemplate jdbcTemplate, String name, String sql,
+                                Map<String, Object> params) {
+        var plan = jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, params, String.class);
+        System.out.println("# " + name + System.lineSeparator() + String.join(System.lineSeparator(), plan));
+    }
+
+    private static int heaviest(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForList(sql + " LIMIT 1", Integer.class).get(0);
+    }
+}
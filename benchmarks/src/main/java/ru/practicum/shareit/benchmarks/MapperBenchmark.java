@@ -0,0 +1,75 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mappers on the read paths, measured with fully populated fixtures so every branch
+ * that copies an association is taken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"0", "10", "100"})
+    private int comments;
+
+    private Item item;
+    private Booking lastBooking;
+    private Booking nextBooking;
+    private List<Comment> commentList;
+    private ItemRequest itemRequest;
+    private List<ItemDto> requestItems;
+
+    @Setup
+    public void setup() {
+        var now = LocalDateTime.now();
+        var owner = new User(1, "owner", "owner@shareit.ru");
+        var booker = new User(2, "booker", "booker@shareit.ru");
+        itemRequest = new ItemRequest(1, "need a drill", booker, now.minusDays(7));
+        item = new Item(1, "drill", "cordless drill", true, owner, itemRequest);
+        lastBooking = new Booking(1, now.minusDays(2), now.minusDays(1), item, booker, BookingStatus.APPROVED);
+        nextBooking = new Booking(2, now.plusDays(1), now.plusDays(2), item, booker, BookingStatus.WAITING);
+        commentList = new ArrayList<>();
+        for (int i = 0; i < comments; i++)
+            commentList.add(new Comment(i, "comment " + i, item, booker, now.minusHours(i)));
+        requestItems = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            requestItems.add(ItemMapper.mapToItemDto(item));
+    }
+
+    @Benchmark
+    public ItemDtoWithBooking toItemDtoWithBooking() {
+        return ItemMapper.toItemDtoWithBooking(commentList, lastBooking, nextBooking, item);
+    }
+
+    @Benchmark
+    public BookingAllFieldsDto mapToBookingAllFieldsDto() {
+        return BookingMapper.mapToBookingAllFieldsDto(lastBooking);
+    }
+
+    @Benchmark
+    public ItemRequestDto mapToItemRequestDto() {
+        return ItemRequestMapper.mapToItemRequestDto(itemRequest, requestItems);
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item search strategies on PostgreSQL: the {@code like} query the service has always run against
+ * the {@code trigram} one served by the pg_trgm indexes, over the same generated dataset. Needs the
+ * database of the default profile; point elsewhere with
+ * {@code -jvmArgsAppend -Dspring.datasource.url=...}. Every trial recreates the schema and reloads
+ * the dataset. The result cache is off, or every iteration after the first would time a hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    private static final int PAGE = 20;
+
+    @Param({"like", "trigram"})
+    private String strategy;
+    /**
+     * A whole word, an infix of many names, a rare brand and a phrase from descriptions.
+     */
+    @Param({"дрель", "рель", "husqvarna", "всё работает"})
+    private String text;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dataset")
+                .properties("shareit.item.search=" + strategy, "shareit.item.search-cache.enabled=false",
+                        "logging.level.root=WARN",
+                        "shareit.dataset.users=5000", "shareit.dataset.requests=5000", "shareit.dataset.items=200000",
+                        "shareit.dataset.bookings=0", "shareit.dataset.comments=0")
+                .run();
+        itemService = context.getBean(ItemService.class);
+        context.getBean(JdbcTemplate.class).execute("ANALYZE items");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return itemService.search(text, 1, 0, PAGE);
+    }
+}
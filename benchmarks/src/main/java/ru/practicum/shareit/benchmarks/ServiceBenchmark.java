@@ -0,0 +1,99 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of the services end to end, against the test profile's in-memory H2 filled by the
+ * dataset generator. Each list is read for the user with the most rows behind it, the heaviest
+ * booker and the owner of the most items, so the benchmarks follow the worst case of the skew. The
+ * search result cache is off, so {@link #search()} runs the query each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final int PAGE = 20;
+    private static final int ITEMS_PAGE = 10;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private ItemService itemService;
+    private ItemRequestService itemRequestService;
+    private int bookerId;
+    private int ownerId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test", "dataset")
+                .properties("shareit.sql.count-header=false", "shareit.item.search-cache.enabled=false",
+                        "logging.level.root=WARN",
+                        "shareit.dataset.users=2000", "shareit.dataset.requests=5000", "shareit.dataset.items=20000",
+                        "shareit.dataset.bookings=200000", "shareit.dataset.comments=40000")
+                .run();
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+        itemRequestService = context.getBean(ItemRequestService.class);
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        bookerId = heaviest(jdbcTemplate, "SELECT booker_id FROM bookings GROUP BY booker_id ORDER BY COUNT(*) DESC");
+        ownerId = heaviest(jdbcTemplate, "SELECT owner_id FROM items GROUP BY owner_id ORDER BY COUNT(*) DESC");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingAllFieldsDto> getAllBookings(BookingState booking) {
+        return bookingService.getAllBookings(bookerId, booking.getState(), 0, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingAllFieldsDto> getBookingsByOwnerId(BookingState booking) {
+        return bookingService.getBookingsByOwnerId(ownerId, booking.getState(), 0, PAGE);
+    }
+
+    @Benchmark
+    public List<ItemDtoWithBooking> getAllItems() {
+        return itemService.getAllItems(ownerId, 0, ITEMS_PAGE);
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return itemService.search("дрель", bookerId, 0, PAGE);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return itemService.suggest("дре", PAGE);
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> getAllItemRequests() {
+        return itemRequestService.getAllItemRequests(0, PAGE, bookerId);
+    }
+
+    private static int heaviest(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForList(sql + " LIMIT 1", Integer.class).get(0);
+    }
+}
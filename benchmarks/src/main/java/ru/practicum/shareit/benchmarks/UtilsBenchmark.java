@@ -0,0 +1,61 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingSpecifications;
+import ru.practicum.shareit.utils.Cursor;
+import ru.practicum.shareit.utils.Pagination;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request helpers every list endpoint goes through: page requests, keyset cursors and the
+ * booking state dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilsBenchmark {
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "start", "id");
+
+    private LocalDateTime now;
+    private String cursor;
+
+    @Setup
+    public void setup() {
+        now = LocalDateTime.now();
+        cursor = Cursor.encode(now, 12345);
+    }
+
+    @Benchmark
+    public Specification<Booking> inState(BookingState booking) {
+        return BookingSpecifications.inState(booking.getState(), now);
+    }
+
+    @Benchmark
+    public PageRequest makePageRequest() {
+        return Pagination.makePageRequest(40, 20, SORT);
+    }
+
+    @Benchmark
+    public PageRequest makeKeysetRequest() {
+        return Pagination.makeKeysetRequest(20, SORT);
+    }
+
+    @Benchmark
+    public String encodeCursor() {
+        return Cursor.encode(now, 12345);
+    }
+
+    @Benchmark
+    public Cursor decodeCursor() {
+        return Cursor.decode(cursor);
+    }
+}
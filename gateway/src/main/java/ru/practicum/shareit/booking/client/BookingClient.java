@@ -40,6 +40,18 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<Object> getBookings(Integer userId,
+                                              BookingState state,
+                                              String cursor,
+                                              Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
     public ResponseEntity<Object> getBooking(Integer userId,
                                              Integer bookingId) {
         return get("/" + bookingId, userId);
@@ -62,4 +74,13 @@ public class BookingClient extends BaseClient {
         );
         return get("/owner?state={state}&from={from}&size={size}", ownerId, parameters);
     }
+
+    public ResponseEntity<Object> getByOwner(Integer ownerId, BookingState state, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/owner?state={state}&cursor={cursor}&size={size}", ownerId, parameters);
+    }
 }
\ No newline at end of file
@@ -48,9 +48,12 @@ public class BookingController {
     public ResponseEntity<Object> getOwnerBookings(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
                                                    @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                   @RequestParam(required = false) String cursor,
                                                    @RequestHeader(HEADER_SHARER_USER_ID) Integer userId) {
         var state = BookingState.from(stateParam).orElseThrow(
                 () -> new BookingStateException("Unknown state: " + stateParam));
+        if (cursor != null)
+            return bookingClient.getByOwner(userId, state, cursor, size);
         return bookingClient.getByOwner(userId, state, from, size);
     }
 
@@ -58,9 +61,12 @@ public class BookingController {
     public ResponseEntity<Object> getBookings(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                               @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                              @RequestParam(required = false) String cursor,
                                               @RequestHeader(HEADER_SHARER_USER_ID) Integer userId) {
         var state = BookingState.from(stateParam).orElseThrow(
                 () -> new BookingStateException("Unknown state: " + stateParam));
+        if (cursor != null)
+            return bookingClient.getBookings(userId, state, cursor, size);
         return bookingClient.getBookings(userId, state, from, size);
     }
 
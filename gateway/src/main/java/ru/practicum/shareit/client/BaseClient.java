@@ -107,7 +107,13 @@ public class BaseClient {
 
     private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
         if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            // the body is serialized again here, so the server's framing headers no longer apply
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.remove(HttpHeaders.CONNECTION);
+            return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
         }
 
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
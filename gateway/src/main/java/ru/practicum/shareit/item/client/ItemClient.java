@@ -10,7 +10,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchFilter;
+import ru.practicum.shareit.item.dto.SearchSort;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -30,13 +33,52 @@ public class ItemClient extends BaseClient {
     public ResponseEntity<Object> searchItems(String text,
                                               Integer userId,
                                               Integer from,
+                                              Integer size,
+                                              SearchSort sort,
+                                              boolean fuzzy,
+                                              SearchFilter filter) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "text", text,
+                "from", from,
+                "size", size,
+                "sort", sort.name(),
+                "fuzzy", fuzzy
+        ));
+        return get("/search?text={text}&from={from}&size={size}&sort={sort}&fuzzy={fuzzy}"
+                + filterQuery(filter, parameters), userId, parameters);
+    }
+
+    public ResponseEntity<Object> getSearchFacets(String text,
+                                                  Integer userId,
+                                                  boolean fuzzy,
+                                                  SearchFilter filter) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "text", text,
+                "fuzzy", fuzzy
+        ));
+        return get("/search/facets?text={text}&fuzzy={fuzzy}" + filterQuery(filter, parameters), userId, parameters);
+    }
+
+    public ResponseEntity<Object> searchItems(String text,
+                                              Integer userId,
+                                              String cursor,
                                               Integer size) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
-                "from", from,
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/search?text={text}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> suggestItems(String prefix,
+                                               Integer userId,
+                                               Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return get("/suggest?prefix={prefix}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> createComment(CommentDto commentDto,
@@ -61,6 +103,16 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<Object> getItems(Integer userId,
+                                           String cursor,
+                                           Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
+    }
+
     public ResponseEntity<Object> createItem(ItemDto itemDto,
                                              Integer userId) {
         return post("", userId, itemDto);
@@ -74,4 +126,29 @@ public class ItemClient extends BaseClient {
     public void deleteItem(Integer itemId) {
         delete("/" + itemId);
     }
+
+    private static String filterQuery(SearchFilter filter, Map<String, Object> parameters) {
+        var query = new StringBuilder();
+        if (filter.getOwnerId() != null) {
+            query.append("&ownerId={ownerId}");
+            parameters.put("ownerId", filter.getOwnerId());
+        }
+        if (filter.getRequest() != null) {
+            query.append("&request={request}");
+            parameters.put("request", filter.getRequest());
+        }
+        if (filter.getWindow() != null) {
+            query.append("&window={window}");
+            parameters.put("window", filter.getWindow());
+        }
+        if (filter.getAvailableFrom() != null) {
+            query.append("&available_from={availableFrom}");
+            parameters.put("availableFrom", filter.getAvailableFrom().toString());
+        }
+        if (filter.getAvailableTo() != null) {
+            query.append("&available_to={availableTo}");
+            parameters.put("availableTo", filter.getAvailableTo().toString());
+        }
+        return query.toString();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item.controller;
 
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import ru.practicum.shareit.request.client.RequestClient;
 import ru.practicum.shareit.user.validation.Created;
@@ -9,13 +10,18 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import org.springframework.http.ResponseEntity;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchFilter;
+import ru.practicum.shareit.item.dto.SearchSort;
 import lombok.AllArgsConstructor;
 
 import javax.validation.constraints.PositiveOrZero;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.NotNull;
+import javax.validation.ValidationException;
 import javax.validation.Valid;
 
+import java.time.LocalDateTime;
+
 
 @Validated
 @RestController
@@ -30,14 +36,60 @@ public class ItemController {
     public ResponseEntity<Object> searchItems(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                               @RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
                                               @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
-                                              @NotNull @RequestParam(required = false) String text) {
-        return itemClient.searchItems(text, userId, from, size);
+                                              @NotNull @RequestParam(required = false) String text,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(name = "sort", required = false) String sortParam,
+                                              @RequestParam(defaultValue = "false") boolean fuzzy,
+                                              @Positive @RequestParam(required = false) Integer ownerId,
+                                              @RequestParam(required = false) Boolean request,
+                                              @RequestParam(required = false) String window,
+                                              @RequestParam(name = "available_from", required = false)
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableFrom,
+                                              @RequestParam(name = "available_to", required = false)
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableTo) {
+        var sort = SearchSort.from(sortParam);
+        var filter = new SearchFilter(ownerId, request, window, availableFrom, availableTo);
+        if (cursor != null) {
+            if (sort == SearchSort.RELEVANCE)
+                throw new ValidationException("Search by cursor is ordered by id only");
+            if (fuzzy)
+                throw new ValidationException("Search by cursor is not fuzzy");
+            if (!filter.isEmpty())
+                throw new ValidationException("Search by cursor is not filtered");
+            return itemClient.searchItems(text, userId, cursor, size);
+        }
+        return itemClient.searchItems(text, userId, from, size, sort, fuzzy, filter);
+    }
+
+    @GetMapping("/search/facets")
+    public ResponseEntity<Object> getSearchFacets(@RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
+                                                  @NotNull @RequestParam(required = false) String text,
+                                                  @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                  @Positive @RequestParam(required = false) Integer ownerId,
+                                                  @RequestParam(required = false) Boolean request,
+                                                  @RequestParam(required = false) String window,
+                                                  @RequestParam(name = "available_from", required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableFrom,
+                                                  @RequestParam(name = "available_to", required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableTo) {
+        var filter = new SearchFilter(ownerId, request, window, availableFrom, availableTo);
+        return itemClient.getSearchFacets(text, userId, fuzzy, filter);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Object> suggestItems(@RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
+                                               @NotNull @RequestParam(required = false) String prefix,
+                                               @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+        return itemClient.suggestItems(prefix, userId, size);
     }
 
     @GetMapping()
     public ResponseEntity<Object> getAllItems(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                               @RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                              @RequestParam(required = false) String cursor) {
+        if (cursor != null)
+            return itemClient.getItems(userId, cursor, size);
         return itemClient.getItems(userId, from, size);
     }
 
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class SearchFilter {
+    Integer ownerId;
+    Boolean request;
+    String window;
+    LocalDateTime availableFrom;
+    LocalDateTime availableTo;
+
+    public boolean isEmpty() {
+        return ownerId == null && request == null && window == null && availableFrom == null && availableTo == null;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.dto;
+
+import javax.validation.ValidationException;
+
+/**
+ * Order of search results, parsed as the server parses it: by id when absent, 400 when unknown.
+ */
+public enum SearchSort {
+    ID,
+    RELEVANCE;
+
+    public static SearchSort from(String sort) {
+        if (sort == null) return ID;
+        for (SearchSort value : values()) {
+            if (value.name().equalsIgnoreCase(sort))
+                return value;
+        }
+        throw new ValidationException("Unknown sort: " + sort);
+    }
+}
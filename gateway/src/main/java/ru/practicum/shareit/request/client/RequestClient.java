@@ -38,6 +38,14 @@ public class RequestClient extends BaseClient {
         return get("/all/?from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<Object> getAllItemRequests(String cursor, Integer size, Integer userId) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/all/?cursor={cursor}&size={size}", userId, parameters);
+    }
+
     public ResponseEntity<Object> getItemRequest(Integer requestId, Integer userId) {
         return get("/" + requestId, userId);
     }
@@ -23,7 +23,10 @@ public class RequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> getAllItemRequests(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
                                                      @RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
-                                                     @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                                     @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                     @RequestParam(required = false) String cursor) {
+        if (cursor != null)
+            return requestClient.getAllItemRequests(cursor, size, userId);
         return requestClient.getAllItemRequests(from, size, userId);
     }
 
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Thin client of the gateway's REST API, shared by the seeding phase and the virtual users.
+ */
+class Api {
+    static final String HEADER_SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    Api(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    HttpRequest get(String path, Integer userId) {
+        return request(path, userId).GET().build();
+    }
+
+    HttpRequest post(String path, Integer userId, Object body) {
+        return request(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    HttpRequest patch(String path, Integer userId) {
+        return request(path, userId).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a seeding request and returns the id of the created resource.
+     */
+    int create(HttpRequest request) throws IOException, InterruptedException {
+        var response = send(request);
+        if (response.statusCode() != 200 && response.statusCode() != 201)
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        JsonNode body = mapper.readTree(response.body());
+        return body.get("id").asInt();
+    }
+
+    private HttpRequest.Builder request(String path, Integer userId) {
+        var builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (userId != null)
+            builder.header(HEADER_SHARER_USER_ID, String.valueOf(userId));
+        return builder;
+    }
+
+    private String json(Object body) {
+        try {
+            return mapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Ids created by the seeding phase. Items and bookers are picked with a power-law skew, so that a
+ * few popular items and heavy users receive most of the traffic, as they do in production.
+ */
+class Dataset {
+    static final String[] WORDS = {"drill", "saw", "ladder", "tent", "bike", "camera", "projector", "kayak",
+            "hammer", "mixer", "scooter", "guitar", "дрель", "пила", "лестница", "палатка", "велосипед"};
+
+    final List<Integer> users;
+    final List<Item> items;
+    final List<Integer> requests;
+    final List<Booking> bookings;
+    private final double skew;
+
+    Dataset(List<Integer> users, List<Item> items, List<Integer> requests, List<Booking> bookings, double skew) {
+        this.users = users;
+        this.items = items;
+        this.requests = requests;
+        this.bookings = bookings;
+        this.skew = skew;
+    }
+
+    static <T> T skewed(List<T> values, double skew, Random random) {
+        return values.get((int) (values.size() * Math.pow(random.nextDouble(), skew)));
+    }
+
+    static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    int user(Random random) {
+        return skewed(users, skew, random);
+    }
+
+    Item item(Random random) {
+        return skewed(items, skew, random);
+    }
+
+    Booking booking(Random random) {
+        return bookings.get(random.nextInt(bookings.size()));
+    }
+
+    static class Item {
+        final int id;
+        final int ownerId;
+
+        Item(int id, int ownerId) {
+            this.id = id;
+            this.ownerId = ownerId;
+        }
+    }
+
+    static class Booking {
+        final int id;
+        final int bookerId;
+
+        Booking(int id, int bookerId) {
+            this.id = id;
+            this.bookerId = bookerId;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * Operations of the traffic mix, keyed by the names used in {@code load.mix}.
+ */
+enum Endpoint {
+    BOOKINGS("bookings") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            return api.get("/bookings?state=" + state(random) + "&from=0&size=" + PAGE, dataset.user(random));
+        }
+    },
+    OWNER_BOOKINGS("owner-bookings") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            return api.get("/bookings/owner?state=" + state(random) + "&from=0&size=" + PAGE,
+                    dataset.item(random).ownerId);
+        }
+    },
+    BOOKING("booking") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            var booking = dataset.booking(random);
+            return api.get("/bookings/" + booking.id, booking.bookerId);
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            var text = URLEncoder.encode(Dataset.word(random), UTF_8);
+            return api.get("/items/search?text=" + text + "&from=0&size=" + PAGE, dataset.user(random));
+        }
+    },
+    ITEMS("items") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            return api.get("/items?from=0&size=" + PAGE, dataset.item(random).ownerId);
+        }
+    },
+    ITEM("item") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            var item = dataset.item(random);
+            return api.get("/items/" + item.id, random.nextBoolean() ? item.ownerId : dataset.user(random));
+        }
+    },
+    REQUESTS("requests") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            return api.get("/requests/all?from=0&size=" + PAGE, dataset.user(random));
+        }
+    },
+    CREATE_BOOKING("create-booking") {
+        @Override
+        HttpRequest request(Api api, Dataset dataset, Random random) {
+            var item = dataset.item(random);
+            var booker = dataset.user(random);
+            while (booker == item.ownerId)
+                booker = dataset.user(random);
+            var start = LocalDateTime.now().plusYears(1).plusMinutes(random.nextInt(525_600)).truncatedTo(SECONDS);
+            return api.post("/bookings", booker, Map.of(
+                    "itemId", item.id, "start", start.toString(), "end", start.plusHours(1).toString()));
+        }
+    };
+
+    private static final int PAGE = 20;
+    private static final String[] STATES = {"ALL", "ALL", "ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+
+    final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    abstract HttpRequest request(Api api, Dataset dataset, Random random);
+
+    static Endpoint of(String key) {
+        for (Endpoint endpoint : values())
+            if (endpoint.key.equals(key))
+                return endpoint;
+        throw new IllegalArgumentException("Unknown endpoint in mix: " + key);
+    }
+
+    private static String state(Random random) {
+        return STATES[random.nextInt(STATES.length)];
+    }
+}
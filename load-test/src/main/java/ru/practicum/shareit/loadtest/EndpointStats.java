@@ -0,0 +1,67 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and failures of one endpoint. Latencies go into an HDR {@link Recorder} in microseconds,
+ * so virtual users record without locking and a measurement window is cut off with one interval
+ * sample.
+ */
+class EndpointStats {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    final Endpoint endpoint;
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(long latencyNanos) {
+        requests.increment();
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    void error(String reason) {
+        errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Ends the current measurement window: returns what was recorded since the previous call and
+     * starts a new window.
+     */
+    Window cut() {
+        var histogram = recorder.getIntervalHistogram();
+        var window = new TreeMap<String, Long>();
+        errors.forEach((reason, count) -> window.put(reason, count.sumThenReset()));
+        window.values().removeIf(count -> count == 0);
+        return new Window(endpoint, requests.sumThenReset(), histogram, window);
+    }
+
+    static class Window {
+        final Endpoint endpoint;
+        final long requests;
+        final Histogram latencies;
+        final Map<String, Long> errors;
+
+        Window(Endpoint endpoint, long requests, Histogram latencies, Map<String, Long> errors) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
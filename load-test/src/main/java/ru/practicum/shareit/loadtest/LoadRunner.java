@@ -0,0 +1,84 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the weighted endpoint mix from a fixed number of virtual users. Unpaced, each user sends
+ * its next request as soon as the previous one completes. With {@code load.rate} set, users follow
+ * a fixed schedule and latency is measured from the scheduled start, so a stalled server shows up
+ * in the tail instead of silently lowering the offered load.
+ */
+class LoadRunner {
+    private final Api api;
+    private final Dataset dataset;
+    private final Settings settings;
+    private final ExecutorService executor;
+    private final List<EndpointStats> stats = new ArrayList<>();
+    private final EndpointStats[] wheel;
+    private volatile boolean stopped;
+
+    LoadRunner(Api api, Dataset dataset, Settings settings, ExecutorService executor) {
+        this.api = api;
+        this.dataset = dataset;
+        this.settings = settings;
+        this.executor = executor;
+        var wheel = new ArrayList<EndpointStats>();
+        settings.mix.forEach((key, weight) -> {
+            var endpointStats = new EndpointStats(Endpoint.of(key));
+            stats.add(endpointStats);
+            for (int i = 0; i < weight; i++)
+                wheel.add(endpointStats);
+        });
+        if (wheel.isEmpty())
+            throw new IllegalArgumentException("Traffic mix has no positive weights");
+        this.wheel = wheel.toArray(new EndpointStats[0]);
+    }
+
+    List<EndpointStats.Window> run() throws InterruptedException {
+        var interval = settings.rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate) : 0L;
+        for (int i = 0; i < settings.virtualUsers; i++) {
+            var random = new Random(settings.seed + i);
+            executor.execute(() -> virtualUser(random, interval));
+        }
+        TimeUnit.MILLISECONDS.sleep(settings.warmup.toMillis());
+        stats.forEach(EndpointStats::cut);
+        TimeUnit.MILLISECONDS.sleep(settings.duration.toMillis());
+        var windows = new ArrayList<EndpointStats.Window>();
+        for (var endpointStats : stats)
+            windows.add(endpointStats.cut());
+        stopped = true;
+        return windows;
+    }
+
+    private void virtualUser(Random random, long interval) {
+        var next = System.nanoTime() + (interval > 0 ? (long) (random.nextDouble() * interval) : 0L);
+        while (!stopped) {
+            if (interval > 0) {
+                long wait;
+                while ((wait = next - System.nanoTime()) > 0)
+                    LockSupport.parkNanos(wait);
+            }
+            var start = interval > 0 ? next : System.nanoTime();
+            var endpointStats = wheel[random.nextInt(wheel.length)];
+            var request = endpointStats.endpoint.request(api, dataset, random);
+            try {
+                var status = api.send(request).statusCode();
+                if (status >= 400)
+                    endpointStats.error(String.valueOf(status));
+            } catch (IOException e) {
+                endpointStats.error(e.getClass().getSimpleName());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            endpointStats.record(System.nanoTime() - start);
+            next += interval;
+        }
+    }
+}
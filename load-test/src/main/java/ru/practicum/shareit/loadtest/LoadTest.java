@@ -0,0 +1,44 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the server on H2 and the gateway in front of it, seeds data through the gateway and
+ * replays the configured traffic mix against it. See {@link Settings} for the parameters.
+ */
+public class LoadTest {
+    public static void main(String[] args) throws Exception {
+        var settings = new Settings();
+        Files.createDirectories(settings.reportDir);
+        System.out.println("Load test: " + settings);
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        var executor = Executors.newFixedThreadPool(settings.virtualUsers);
+        try (var server = Node.start("server", settings.serverJar, settings.serverPort, settings.jvmArgs,
+                settings.reportDir, "--spring.profiles.active=ci");
+             var gateway = Node.start("gateway", settings.gatewayJar, settings.gatewayPort, settings.jvmArgs,
+                     settings.reportDir, "--shareit-server.url=" + server.url())) {
+            server.awaitHealthy(client);
+            gateway.awaitHealthy(client);
+            var api = new Api(client, gateway.url());
+
+            var started = System.nanoTime();
+            var dataset = new Seeder(api, executor, settings).seed();
+            System.out.printf("Seeded in %ds%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+
+            var windows = new LoadRunner(api, dataset, settings, executor).run();
+            var report = new Report(windows, settings.duration);
+            report.print(System.out);
+            report.write(settings.reportDir);
+            System.out.println("Histograms and node logs are in " + settings.reportDir.toAbsolutePath());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One application started from its boot jar in a child JVM. Gateway and server share class names,
+ * so they cannot run in the harness's own class path.
+ */
+class Node implements AutoCloseable {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String name;
+    private final int port;
+    private final Process process;
+
+    private Node(String name, int port, Process process) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+    }
+
+    static Node start(String name, Path jar, int port, String jvmArgs, Path logDir, String... args)
+            throws IOException {
+        if (!Files.isRegularFile(jar))
+            throw new IllegalStateException("No " + name + " jar at " + jar + ", package the project first");
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmArgs.isBlank())
+            command.addAll(List.of(jvmArgs.trim().split("\\s+")));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(List.of(args));
+        var log = logDir.resolve(name + ".log").toFile();
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        Runtime.getRuntime().addShutdownHook(new Thread(process::destroy));
+        return new Node(name, port, process);
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    void awaitHealthy(HttpClient client) throws InterruptedException {
+        var health = HttpRequest.newBuilder(URI.create(url() + "/actuator/health")).GET().build();
+        var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive())
+                throw new IllegalStateException(name + " exited with code " + process.exitValue());
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                    return;
+            } catch (IOException e) {
+                // not listening yet
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become healthy in " + STARTUP_TIMEOUT.toSeconds() + "s");
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS))
+            process.destroyForcibly();
+    }
+}
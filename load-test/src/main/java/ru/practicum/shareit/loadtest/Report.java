@@ -0,0 +1,71 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Per-endpoint throughput, error rate and latency percentiles of a measurement window. Each
+ * endpoint's full distribution is also written as an {@code .hgrm} file, which the HdrHistogram
+ * plotter reads directly.
+ */
+class Report {
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String HEADER = "%-16s %9s %9s %8s %7s %9s %9s %9s %9s%n";
+    private static final String ROW = "%-16s %9d %9.1f %8d %6.2f%% %9.2f %9.2f %9.2f %9.2f%n";
+
+    private final List<EndpointStats.Window> windows;
+    private final Duration duration;
+
+    Report(List<EndpointStats.Window> windows, Duration duration) {
+        this.windows = windows;
+        this.duration = duration;
+    }
+
+    void print(PrintStream out) {
+        out.printf(HEADER, "endpoint", "requests", "req/s", "errors", "errors", "p50 ms", "p99 ms",
+                "p99.9 ms", "max ms");
+        var total = new Histogram(3);
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (var window : windows) {
+            row(out, window.endpoint.key, window.requests, window.latencies, window.errorCount());
+            total.add(window.latencies);
+            totalRequests += window.requests;
+            totalErrors += window.errorCount();
+        }
+        row(out, "total", totalRequests, total, totalErrors);
+        for (var window : windows)
+            if (!window.errors.isEmpty())
+                out.printf("%s errors by cause: %s%n", window.endpoint.key, window.errors);
+    }
+
+    void write(Path dir) throws IOException {
+        try (var summary = new PrintStream(dir.resolve("summary.txt").toFile(), UTF_8)) {
+            print(summary);
+        }
+        for (var window : windows)
+            try (var out = new PrintStream(dir.resolve(window.endpoint.key + ".hgrm").toFile(), UTF_8)) {
+                window.latencies.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+    }
+
+    private void row(PrintStream out, String name, long requests, Histogram latencies, long errors) {
+        out.printf(ROW, name, requests, requests / (duration.toMillis() / 1000.0), errors,
+                requests == 0 ? 0.0 : 100.0 * errors / requests,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
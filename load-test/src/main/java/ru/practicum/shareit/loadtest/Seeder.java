@@ -0,0 +1,107 @@
+package ru.practicum.shareit.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * Fills the server through the gateway's public API, so seeding exercises the same validation and
+ * write paths as real clients. Only future bookings can be created this way; each item's bookings
+ * get consecutive non-overlapping slots, so approving them never conflicts.
+ */
+class Seeder {
+    private final Api api;
+    private final ExecutorService executor;
+    private final Settings settings;
+    private final Random random;
+
+    Seeder(Api api, ExecutorService executor, Settings settings) {
+        this.api = api;
+        this.executor = executor;
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+    }
+
+    Dataset seed() throws InterruptedException {
+        var users = run(settings.users, i -> () -> api.create(api.post("/users", null,
+                Map.of("name", "user" + i, "email", "user" + i + "@load.test"))));
+        var requests = run(settings.requests, i -> {
+            var requester = users.get(random.nextInt(users.size()));
+            var description = "looking for a " + Dataset.word(random);
+            return () -> api.create(api.post("/requests", requester, Map.of("description", description)));
+        });
+        var owners = new ArrayList<Integer>();
+        var items = run(settings.items, i -> {
+            var owner = Dataset.skewed(users, settings.skew, random);
+            owners.add(owner);
+            var body = new HashMap<String, Object>();
+            body.put("name", Dataset.word(random));
+            body.put("description", Dataset.word(random) + " in good condition, item #" + i);
+            body.put("available", true);
+            if (random.nextInt(4) == 0)
+                body.put("requestId", requests.get(random.nextInt(requests.size())));
+            return () -> api.create(api.post("/items", owner, body));
+        });
+        var itemList = new ArrayList<Dataset.Item>();
+        for (int i = 0; i < items.size(); i++)
+            itemList.add(new Dataset.Item(items.get(i), owners.get(i)));
+
+        var slots = new HashMap<Integer, Integer>();
+        var bookers = new ArrayList<Integer>();
+        var base = LocalDateTime.now().plusDays(1).truncatedTo(SECONDS);
+        var bookings = run(settings.bookings, i -> {
+            var item = Dataset.skewed(itemList, settings.skew, random);
+            var booker = Dataset.skewed(users, settings.skew, random);
+            if (booker == item.ownerId)
+                booker = users.get((users.indexOf(booker) + 1) % users.size());
+            bookers.add(booker);
+            int slot = slots.merge(item.id, 1, Integer::sum);
+            var start = base.plusHours(3L * slot);
+            var body = Map.of("itemId", item.id, "start", start.toString(), "end", start.plusHours(2).toString());
+            var decision = random.nextInt(10);
+            var bookerId = booker;
+            return () -> {
+                var id = api.create(api.post("/bookings", bookerId, body));
+                if (decision < 9)
+                    api.send(api.patch("/bookings/" + id + "?approved=" + (decision < 7), item.ownerId));
+                return id;
+            };
+        });
+        var bookingList = new ArrayList<Dataset.Booking>();
+        for (int i = 0; i < bookings.size(); i++)
+            bookingList.add(new Dataset.Booking(bookings.get(i), bookers.get(i)));
+        return new Dataset(users, itemList, requests, bookingList, settings.skew);
+    }
+
+    /**
+     * Builds the tasks on the calling thread, so the random choices stay reproducible, and runs them
+     * on the executor, keeping results in task order.
+     */
+    private List<Integer> run(int count, TaskFactory factory) throws InterruptedException {
+        var futures = new ArrayList<Future<Integer>>(count);
+        for (int i = 0; i < count; i++)
+            futures.add(executor.submit(factory.create(i)));
+        var ids = new ArrayList<Integer>(count);
+        for (var future : futures) {
+            try {
+                ids.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Seeding failed", e.getCause());
+            }
+        }
+        return ids;
+    }
+
+    private interface TaskFactory {
+        Callable<Integer> create(int index);
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Run parameters, read from {@code load.*} system properties so that they can be passed straight
+ * through {@code -Dload.args} of the Maven build.
+ */
+public class Settings {
+    private static final String PREFIX = "load.";
+    private static final String DEFAULT_MIX = "bookings=25,owner-bookings=15,search=25,requests=10,"
+            + "items=10,item=10,booking=3,create-booking=2";
+
+    final Path serverJar = Path.of(string("server-jar", "server/target/shareit-server-0.0.1-SNAPSHOT.jar"));
+    final Path gatewayJar = Path.of(string("gateway-jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar"));
+    final Path reportDir = Path.of(string("report-dir", "target/load-test"));
+    final int serverPort = integer("server-port", 19090);
+    final int gatewayPort = integer("gateway-port", 18080);
+    final String jvmArgs = string("jvm-args", "-Xmx512m");
+
+    final int users = integer("users", 500);
+    final int items = integer("items", 2_000);
+    final int requests = integer("requests", 500);
+    final int bookings = integer("bookings", 5_000);
+    final double skew = Double.parseDouble(string("skew", "3"));
+    final long seed = Long.parseLong(string("seed", "42"));
+
+    final int virtualUsers = integer("virtual-users", 32);
+    final double rate = Double.parseDouble(string("rate", "0"));
+    final Duration warmup = Duration.ofSeconds(integer("warmup", 10));
+    final Duration duration = Duration.ofSeconds(integer("duration", 60));
+    final Map<String, Integer> mix = parseMix(string("mix", DEFAULT_MIX));
+
+    private static String string(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static int integer(String name, int defaultValue) {
+        return Integer.parseInt(string(name, String.valueOf(defaultValue)));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        var weights = new LinkedHashMap<String, Integer>();
+        for (String entry : mix.split(",")) {
+            var pair = entry.split("=");
+            if (pair.length != 2)
+                throw new IllegalArgumentException("Incorrect mix entry: " + entry);
+            weights.put(pair[0].trim(), Integer.valueOf(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d items=%d requests=%d bookings=%d skew=%.1f virtual-users=%d rate=%s "
+                        + "warmup=%ds duration=%ds mix=%s", users, items, requests, bookings, skew, virtualUsers,
+                rate > 0 ? rate + "/s per user" : "unpaced", warmup.toSeconds(), duration.toSeconds(), mix);
+    }
+}
@@ -1,11 +1,13 @@
 package ru.practicum.shareit.booking;
 
 import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
 import ru.practicum.shareit.booking.dto.BookingSavingDto;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.utils.Cursor;
 
 import java.util.List;
 
@@ -23,7 +25,7 @@ public class BookingController {
     @PostMapping()
     public BookingAllFieldsDto save(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
                                     @RequestBody BookingSavingDto bookingSavingDto) {
-        var item = itemService.get(bookingSavingDto.getItemId(), userId);
+        var item = itemService.getBookingView(bookingSavingDto.getItemId());
         return bookingService.save(bookingSavingDto, item, userId);
     }
 
@@ -35,19 +37,27 @@ public class BookingController {
     }
 
     @GetMapping("/owner")
-    public List<BookingAllFieldsDto> getBookingsByOwner(@RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
-                                                        @RequestParam(required = false) String state,
-                                                        @RequestParam(required = false) Integer from,
-                                                        @RequestParam(required = false) Integer size) {
-        return bookingService.getBookingsByOwnerId(userId, state, from, size);
+    public ResponseEntity<List<BookingAllFieldsDto>> getBookingsByOwner(@RequestHeader(required = false, value = HEADER_SHARER_USER_ID) Integer userId,
+                                                                        @RequestParam(required = false) String state,
+                                                                        @RequestParam(required = false) Integer from,
+                                                                        @RequestParam(required = false) Integer size,
+                                                                        @RequestParam(required = false) String cursor) {
+        if (cursor == null)
+            return ResponseEntity.ok(bookingService.getBookingsByOwnerId(userId, state, from, size));
+        return Cursor.toResponse(bookingService.getBookingsByOwnerIdAfter(userId, state, cursor, size),
+                booking -> Cursor.encode(booking.getStart(), booking.getId()));
     }
 
     @GetMapping()
-    public List<BookingAllFieldsDto> getBookings(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
-                                                 @RequestParam(required = false) String state,
-                                                 @RequestParam(required = false) Integer from,
-                                                 @RequestParam(required = false) Integer size) {
-        return bookingService.getAllBookings(userId, state, from, size);
+    public ResponseEntity<List<BookingAllFieldsDto>> getBookings(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
+                                                                 @RequestParam(required = false) String state,
+                                                                 @RequestParam(required = false) Integer from,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 @RequestParam(required = false) String cursor) {
+        if (cursor == null)
+            return ResponseEntity.ok(bookingService.getAllBookings(userId, state, from, size));
+        return Cursor.toResponse(bookingService.getAllBookingsAfter(userId, state, cursor, size),
+                booking -> Cursor.encode(booking.getStart(), booking.getId()));
     }
 
     @GetMapping("/{bookingId}")
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The time an item is taken by a booking.
+ */
+public interface BookingIntervalView {
+    Integer getItemId();
+
+    LocalDateTime getStart();
+
+    LocalDateTime getEnd();
+}
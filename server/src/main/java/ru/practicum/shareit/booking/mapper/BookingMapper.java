@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.mapper;
 import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
 import ru.practicum.shareit.booking.dto.BookingSavingDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
@@ -15,11 +16,19 @@ public class BookingMapper {
     }
 
     public static BookingAllFieldsDto mapToBookingAllFieldsDto(Booking booking) {
+        return mapToBookingAllFieldsDto(booking,
+                booking.getItem() != null ? ItemMapper.mapToItemDto(booking.getItem()) : null);
+    }
+
+    /**
+     * Takes the item already read, so an item the booking only references by id is not loaded again.
+     */
+    public static BookingAllFieldsDto mapToBookingAllFieldsDto(Booking booking, ItemDto item) {
         return BookingAllFieldsDto.builder()
                 .id(booking.getId())
                 .start(booking.getStart())
                 .end(booking.getEnd())
-                .item(booking.getItem() != null ? ItemMapper.mapToItemDto(booking.getItem()) : null)
+                .item(item)
                 .booker(booking.getBooker() != null ? UserMapper.toUserDto(booking.getBooker()) : null)
                 .status(booking.getStatus().name())
                 .build();
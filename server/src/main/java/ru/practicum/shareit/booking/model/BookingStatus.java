@@ -1,8 +1,16 @@
 package ru.practicum.shareit.booking.model;
 
+
+import java.util.List;
+
 public enum BookingStatus {
     WAITING,
     APPROVED,
     REJECTED,
-    CANCELED
+    CANCELED;
+
+    /**
+     * Statuses of the bookings that keep their item from being booked for their period.
+     */
+    public static final List<BookingStatus> TAKING = List.of(WAITING, APPROVED);
 }
@@ -1,99 +1,100 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.KeysetRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-
-public interface BookingRepository extends JpaRepository<Booking, Integer> {
-    //for owner
-    List<Booking> findBookingsByItemOwnerIsAndStartBeforeAndEndAfterOrderByStartDesc(User owner,
-                                                                                     LocalDateTime startDateTime,
-                                                                                     LocalDateTime endDateTime);
-
-    Page<Booking> findBookingsByItemOwnerIsAndStartBeforeAndEndAfterOrderByStartDesc(User owner,
-                                                                                     LocalDateTime startDateTime,
-                                                                                     LocalDateTime endDateTime,
-                                                                                     Pageable pageable);
-
-    List<Booking> findBookingsByItemOwnerAndStartAfterOrderByStartDesc(User owner,
-                                                                       LocalDateTime localDateTime);
-
-    Page<Booking> findBookingsByItemOwnerAndStartAfterOrderByStartDesc(User owner,
-                                                                       LocalDateTime localDateTime,
-                                                                       Pageable pageable);
-
-    List<Booking> findBookingsByItemOwnerAndEndBeforeOrderByStartDesc(User owner,
-                                                                      LocalDateTime localDateTime);
-
-    Page<Booking> findBookingsByItemOwnerAndEndBeforeOrderByStartDesc(User owner,
-                                                                      LocalDateTime localDateTime,
-                                                                      Pageable pageable);
-
-    List<Booking> findBookingsByItemOwnerIsAndStatusIsOrderByStartDesc(User owner,
-                                                                       BookingStatus bookingState);
-
-    Page<Booking> findBookingsByItemOwnerIsAndStatusIsOrderByStartDesc(User owner,
-                                                                       BookingStatus bookingState,
-                                                                       Pageable pageable);
-
-    Page<Booking> findBookingsByItemOwnerIsOrderByStartDesc(User owner,
-                                                            Pageable pageable);
-
-    List<Booking> findBookingsByItemOwnerIsOrderByStartDesc(User owner);
-
-
-    List<Booking> findBookingsByBookerIsAndStartBeforeAndEndAfterOrderByStartDesc(User booker,
-                                                                                  LocalDateTime startDateTime,
-                                                                                  LocalDateTime endDateTime);
-
-    Page<Booking> findBookingsByBookerIsAndStartBeforeAndEndAfterOrderByStartDesc(User booker,
-                                                                                  LocalDateTime startDateTime,
-                                                                                  LocalDateTime endDateTime,
-                                                                                  Pageable pageable);
-
-    List<Booking> findBookingsByBookerIsAndStartIsAfterOrderByStartDesc(User booker,
-                                                                        LocalDateTime localDateTime);
-
-    Page<Booking> findBookingsByBookerIsAndStartIsAfterOrderByStartDesc(User booker,
-                                                                        LocalDateTime localDateTime,
-                                                                        Pageable pageable);
-
-    List<Booking> findBookingsByBookerIsAndEndBeforeOrderByStartDesc(User booker,
-                                                                     LocalDateTime localDateTime);
-
-    Page<Booking> findBookingsByBookerIsAndEndBeforeOrderByStartDesc(User booker,
-                                                                     LocalDateTime localDateTime,
-                                                                     Pageable pageable);
-
-    List<Booking> findBookingsByBookerIsAndStatusIsOrderByStartDesc(User booker,
-                                                                    BookingStatus bookingState);
-
-    Page<Booking> findBookingsByBookerIsAndStatusIsOrderByStartDesc(User booker,
-                                                                    BookingStatus bookingState,
-                                                                    Pageable pageable);
-
-    Page<Booking> findBookingsByBookerIsOrderByStartDesc(User booker,
-                                                         Pageable pageable);
-
-    List<Booking> findBookingsByBookerIsOrderByStartDesc(User booker);
-
-    Booking getFirstByItemIdAndEndBeforeOrderByEndDesc(Integer itemId, LocalDateTime end);
-
-    Booking getTopByItemIdAndStartAfterOrderByStartAsc(Integer itemId, LocalDateTime start);
-
+import java.util.Optional;
+
+public interface BookingRepository extends KeysetRepository<Booking, Integer> {
+    @Override
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Optional<Booking> findById(Integer id);
+
+    @Override
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findAll(Specification<Booking> spec, Sort sort);
+
+    @Override
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Slice<Booking> findSlice(Specification<Booking> spec, Pageable pageable);
+
+    boolean existsByIdAndStatus(Integer id, BookingStatus status);
+
+    boolean existsByBookerIdAndItemIdAndStatusAndEndBefore(Integer bookerId,
+                                                           Integer itemId,
+                                                           BookingStatus status,
+                                                           LocalDateTime end);
+
+    /**
+     * Approved bookings of an item never overlap, so the one starting last before {@code end}
+     * is the only candidate for a conflict with the interval ending at {@code end}. Read with a
+     * page of one; the literal status matches the predicate of {@code idx_bookings_item_start_approved},
+     * which a bound parameter would keep generic plans off.
+     */
+    @Query("select b from Booking b where b.item.id = ?1 and b.status = 'APPROVED' and b.start < ?2 " +
+            "order by b.start desc")
+    List<Booking> findLastApprovedStartingBefore(Integer itemId, LocalDateTime end, Pageable pageable);
+
+    /**
+     * The last and the next booking of each item, rejected ones included as the owner's item list always showed
+     * them. With no status criterion the partial indexes of schema-postgresql.sql do not apply; each item's range
+     * is read from {@code idx_bookings_item_end} instead.
+     */
+    @Query(value = "SELECT id, start_date, end_date, item_id, booker_id, status, version FROM (" +
+            "SELECT b.*, ROW_NUMBER() OVER (" +
+            "PARTITION BY b.item_id, CASE WHEN b.end_date < :now THEN 0 ELSE 1 END " +
+            "ORDER BY CASE WHEN b.end_date < :now THEN b.end_date END DESC, b.start_date ASC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND (b.end_date < :now OR b.start_date > :now)" +
+            ") ranked WHERE ranked.rn = 1", nativeQuery = true)
+    List<Booking> findLastAndNextBookingsByItemIds(@Param("itemIds") Collection<Integer> itemIds,
+                                                   @Param("now") LocalDateTime now);
+
+    /**
+     * Bookings of the items in the given statuses that end after {@code from} and start no later than {@code to}.
+     */
+    @Query("select b.item.id as itemId, b.start as start, b.end as end from Booking b " +
+            "where b.item.id in :itemIds and b.status in :statuses and b.end > :from and b.start <= :to")
+    List<BookingIntervalView> findIntervalsByItemIds(@Param("itemIds") Collection<Integer> itemIds,
+                                                     @Param("statuses") Collection<BookingStatus> statuses,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    /**
+     * The items among the given ones with a booking in the given statuses overlapping {@code [from, to)}.
+     */
+    @Query("select distinct b.item.id from Booking b " +
+            "where b.item.id in :itemIds and b.status in :statuses and b.start < :to and b.end > :from")
+    List<Integer> findItemIdsTakenBetween(@Param("itemIds") Collection<Integer> itemIds,
+                                          @Param("statuses") Collection<BookingStatus> statuses,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * Read with a page of one: PostgreSQL then walks {@code idx_bookings_item_end_active}, whose predicate the
+     * literal {@code status <> 'REJECTED'} matches, and stops at the first row.
+     */
     @Query("select b from Booking b where b.item.id = ?1 and " +
-            "b.item.owner.id = ?2 and status not like 'REJECTED' and b.start <= ?3 order by b.end desc")
-    List<Booking> findLastBookingByItemId(Integer itemId, Integer userId, LocalDateTime now);
+            "b.item.owner.id = ?2 and b.status <> 'REJECTED' and b.start <= ?3 order by b.end desc")
+    List<Booking> findLastBookingByItemId(Integer itemId, Integer userId, LocalDateTime now, Pageable pageable);
 
+    /**
+     * Read with a page of one, from {@code idx_bookings_item_start_active}.
+     */
     @Query("select b from Booking b where b.item.id = ?1 and " +
-            "b.item.owner.id = ?2 and status not like 'REJECTED' and b.start >= ?3 order by b.start asc")
-    List<Booking> findNextBookingByItemId(Integer itemId, Integer userId, LocalDateTime now);
+            "b.item.owner.id = ?2 and b.status <> 'REJECTED' and b.start >= ?3 order by b.start asc")
+    List<Booking> findNextBookingByItemId(Integer itemId, Integer userId, LocalDateTime now, Pageable pageable);
 
 }
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import javax.validation.ValidationException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static ru.practicum.shareit.booking.model.BookingTimeState.*;
+
+public class BookingSpecifications {
+    public static Specification<Booking> bookerIs(Integer bookerId) {
+        return (root, query, builder) -> builder.equal(root.get("booker").get("id"), bookerId);
+    }
+
+    public static Specification<Booking> itemOwnerIs(Integer ownerId) {
+        return (root, query, builder) -> builder.equal(root.get("item").get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Booking> inState(String state, LocalDateTime now) {
+        if (state == null || ALL.name().equals(state))
+            return (root, query, builder) -> null;
+        if (PAST.name().equals(state))
+            return (root, query, builder) -> builder.lessThan(root.get("end"), now);
+        if (CURRENT.name().equals(state))
+            return (root, query, builder) -> builder.and(
+                    builder.lessThan(root.get("start"), now),
+                    builder.greaterThan(root.get("end"), now));
+        if (FUTURE.name().equals(state))
+            return (root, query, builder) -> builder.greaterThan(root.get("start"), now);
+        if (Arrays.stream(BookingStatus.values()).anyMatch(bookingStatus -> bookingStatus.name().equals(state)))
+            return (root, query, builder) -> builder.equal(root.get("status"), BookingStatus.valueOf(state));
+        throw new ValidationException("Unknown state: " + state);
+    }
+}
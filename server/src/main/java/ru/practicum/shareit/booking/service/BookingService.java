@@ -1,8 +1,9 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
 import ru.practicum.shareit.booking.dto.BookingSavingDto;
-import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
+import ru.practicum.shareit.item.dto.ItemDto;
 
 import java.util.List;
 
@@ -12,7 +13,11 @@ public interface BookingService {
 
     List<BookingAllFieldsDto> getAllBookings(Integer bookerId, String state, Integer from, Integer size);
 
-    BookingAllFieldsDto save(BookingSavingDto booking, ItemAllFieldsDto itemDto, Integer bookerId);
+    Slice<BookingAllFieldsDto> getBookingsByOwnerIdAfter(Integer userId, String state, String cursor, Integer size);
+
+    Slice<BookingAllFieldsDto> getAllBookingsAfter(Integer bookerId, String state, String cursor, Integer size);
+
+    BookingAllFieldsDto save(BookingSavingDto booking, ItemDto item, Integer bookerId);
 
     BookingAllFieldsDto approve(Integer bookingId, boolean approved, Integer userId);
 
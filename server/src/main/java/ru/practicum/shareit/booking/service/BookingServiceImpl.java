@@ -2,8 +2,11 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
@@ -12,26 +15,30 @@ import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
-import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
-import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utils.Cursor;
+import ru.practicum.shareit.utils.Keyset;
 
 import javax.validation.ValidationException;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static java.time.LocalDateTime.now;
 import static java.util.stream.Collectors.toList;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.data.jpa.domain.Specification.where;
 import static ru.practicum.shareit.booking.mapper.BookingMapper.*;
 import static ru.practicum.shareit.booking.model.BookingStatus.*;
-import static ru.practicum.shareit.booking.model.BookingTimeState.*;
-import static ru.practicum.shareit.item.mapper.ItemMapper.mapToItem;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.*;
 import static ru.practicum.shareit.user.mapper.UserMapper.toUser;
+import static ru.practicum.shareit.utils.Pagination.makeKeysetRequest;
 import static ru.practicum.shareit.utils.Pagination.makePageRequest;
 
 @Slf4j
@@ -39,27 +46,32 @@ import static ru.practicum.shareit.utils.Pagination.makePageRequest;
 @AllArgsConstructor
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
+    private static final Sort BY_START_DESC = Keyset.sort("start", DESC);
+    private static final PageRequest FIRST = PageRequest.of(0, 1);
     private final BookingRepository bookingRepository;
     private final UserService userService;
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemLocks itemLocks;
 
     @Override
     @Transactional
-    public BookingAllFieldsDto save(BookingSavingDto bookingSavingDto, ItemAllFieldsDto itemDto, Integer bookerId) {
-        if (itemDto.getOwnerId().equals(bookerId))
-            throw new NotFoundException("Item with id#" + itemDto.getId() + " cannot be booked by his owner");
-        if (!itemDto.getAvailable())
-            throw new ValidationException("Item with id#" + itemDto.getId() + " cannot be booked");
+    public BookingAllFieldsDto save(BookingSavingDto bookingSavingDto, ItemDto item, Integer bookerId) {
+        if (item.getOwnerId().equals(bookerId))
+            throw new NotFoundException("Item with id#" + item.getId() + " cannot be booked by his owner");
+        if (!item.getAvailable())
+            throw new ValidationException("Item with id#" + item.getId() + " cannot be booked");
         validate(bookingSavingDto);
+        itemLocks.lock(item.getId());
+        checkOverlap(item.getId(), bookingSavingDto.getStart(), bookingSavingDto.getEnd());
         var booker = toUser(userService.get(bookerId));
-        var item = mapToItem(itemDto);
 
         var booking = mapToBooking(bookingSavingDto);
         booking.setStatus(BookingStatus.WAITING);
         booking.setBooker(booker);
-        booking.setItem(item);
+        booking.setItem(itemRepository.getReferenceById(item.getId()));
         var savedBooking = bookingRepository.save(booking);
-        return mapToBookingAllFieldsDto(savedBooking);
+        return mapToBookingAllFieldsDto(savedBooking, item);
     }
 
     @Override
@@ -72,9 +84,17 @@ public class BookingServiceImpl implements BookingService {
         if (!booking.getItem().getOwner().getId().equals(userId)
                 || !booking.getStatus().equals(BookingStatus.WAITING))
             throw new ValidationException("Booking state cannot be updated");
+        itemLocks.lock(booking.getItem().getId());
+        if (!bookingRepository.existsByIdAndStatus(bookingId, BookingStatus.WAITING))
+            throw new ValidationException("Booking state cannot be updated");
+        if (approved)
+            checkOverlap(booking.getItem().getId(), booking.getStart(), booking.getEnd());
         booking.setStatus(approved ? APPROVED : BookingStatus.REJECTED);
-        var savedBooking = bookingRepository.save(booking);
-        return mapToBookingAllFieldsDto(savedBooking);
+        try {
+            return mapToBookingAllFieldsDto(bookingRepository.saveAndFlush(booking));
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Item with id#" + booking.getItem().getId() + " is already booked for these dates");
+        }
     }
 
     @Override
@@ -90,153 +110,59 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<BookingAllFieldsDto> getAllBookings(Integer bookerId, String state) {
-        Stream<Booking> stream = null;
-        var userDto = userService.get(bookerId);
-        var user = toUser(userDto);
-        if (state == null || ALL.name().equals(state))
-            stream = bookingRepository.findBookingsByBookerIsOrderByStartDesc(user)
-                    .stream();
-        if (PAST.name().equals(state))
-            stream = bookingRepository.findBookingsByBookerIsAndEndBeforeOrderByStartDesc(user, now())
-                    .stream();
-        if (CURRENT.name().equals(state))
-            stream = bookingRepository.findBookingsByBookerIsAndStartBeforeAndEndAfterOrderByStartDesc(user, now(), now())
-                    .stream();
-        if (FUTURE.name().equals(state))
-            stream = bookingRepository.findBookingsByBookerIsAndStartIsAfterOrderByStartDesc(user, now())
-                    .stream();
-        if (Arrays.stream(BookingStatus.values()).anyMatch(bookingStatus -> bookingStatus.name().equals(state)))
-            stream = bookingRepository
-                    .findBookingsByBookerIsAndStatusIsOrderByStartDesc(user, BookingStatus.valueOf(state))
-                    .stream();
-        if (stream != null)
-            return stream
-                    .map(BookingMapper::mapToBookingAllFieldsDto)
-                    .collect(toList());
-        else
-            throw new ValidationException("Unknown state: " + state);
+        return getAllBookings(bookerId, state, null, null);
     }
 
     @Override
     public List<BookingAllFieldsDto> getAllBookings(Integer bookerId, String state, Integer from, Integer size) {
-        Stream<Booking> stream = null;
-        Pageable pageRequest = makePageRequest(from, size, Sort.by("start").descending());
-        var userDto = userService.get(bookerId);
-        User user = toUser(userDto);
-        if (state == null || ALL.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByBookerIsOrderByStartDesc(user)
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByBookerIsOrderByStartDesc(user, pageRequest)
-                        .stream();
-        }
-        if (PAST.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByBookerIsAndEndBeforeOrderByStartDesc(user, now())
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByBookerIsAndEndBeforeOrderByStartDesc(user, now(), pageRequest)
-                        .stream();
-        }
-        if (CURRENT.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByBookerIsAndStartBeforeAndEndAfterOrderByStartDesc(user, now(), now())
-                        .stream();
-            else
-                stream = bookingRepository.findBookingsByBookerIsAndStartBeforeAndEndAfterOrderByStartDesc(user, now(), now(), pageRequest)
-                        .stream();
-        }
-        if (FUTURE.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository.findBookingsByBookerIsAndStartIsAfterOrderByStartDesc(user, now())
-                        .stream();
-            else
-                stream = bookingRepository.findBookingsByBookerIsAndStartIsAfterOrderByStartDesc(user, now(), pageRequest)
-                        .stream();
-        }
-        if (Arrays.stream(BookingStatus.values()).anyMatch(bookingState -> bookingState.name().equals(state))) {
-            if (pageRequest == null)
-                stream = bookingRepository.findBookingsByBookerIsAndStatusIsOrderByStartDesc(user, BookingStatus.valueOf(state))
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByBookerIsAndStatusIsOrderByStartDesc(user, BookingStatus.valueOf(state), pageRequest)
-                        .stream();
-        }
-        if (stream != null)
-            return stream
-                    .map(BookingMapper::mapToBookingAllFieldsDto)
-                    .collect(toList());
-        else
-            throw new ValidationException("Unknown state: " + state);
+        userService.get(bookerId);
+        return findBookings(bookerIs(bookerId), state, from, size);
     }
 
     @Override
     public List<BookingAllFieldsDto> getBookingsByOwnerId(Integer userId, String state, Integer from, Integer size) {
-        Stream<Booking> stream = null;
-        var pageRequest = makePageRequest(from, size, Sort.by("start").descending());
-        var user = toUser(userService.get(userId));
-        if (state == null || state.equals(ALL.name())) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByItemOwnerIsOrderByStartDesc(user)
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByItemOwnerIsOrderByStartDesc(user, pageRequest)
-                        .stream();
-        }
-        if (PAST.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByItemOwnerAndEndBeforeOrderByStartDesc(user, now())
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByItemOwnerAndEndBeforeOrderByStartDesc(user, now(), pageRequest)
-                        .stream();
-        }
-        if (CURRENT.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByItemOwnerIsAndStartBeforeAndEndAfterOrderByStartDesc(user, now(), now())
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByItemOwnerIsAndStartBeforeAndEndAfterOrderByStartDesc(user, now(), now(), pageRequest)
-                        .stream();
-        }
-        if (FUTURE.name().equals(state)) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByItemOwnerAndStartAfterOrderByStartDesc(user, now())
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByItemOwnerAndStartAfterOrderByStartDesc(user, now(), pageRequest)
-                        .stream();
-        }
-        if (Arrays.stream(BookingStatus.values()).anyMatch(bookingState -> bookingState.name().equals(state))) {
-            if (pageRequest == null)
-                stream = bookingRepository
-                        .findBookingsByItemOwnerIsAndStatusIsOrderByStartDesc(user, BookingStatus.valueOf(state))
-                        .stream();
-            else
-                stream = bookingRepository
-                        .findBookingsByItemOwnerIsAndStatusIsOrderByStartDesc(user, BookingStatus.valueOf(state), pageRequest)
-                        .stream();
-        }
-        if (stream != null)
-            return stream
-                    .map(BookingMapper::mapToBookingAllFieldsDto)
-                    .collect(toList());
-        else throw new ValidationException("Unknown state: " + state);
+        userService.get(userId);
+        return findBookings(itemOwnerIs(userId), state, from, size);
+    }
+
+    @Override
+    public Slice<BookingAllFieldsDto> getAllBookingsAfter(Integer bookerId, String state, String cursor, Integer size) {
+        userService.get(bookerId);
+        return findBookingsAfter(bookerIs(bookerId), state, cursor, size);
+    }
+
+    @Override
+    public Slice<BookingAllFieldsDto> getBookingsByOwnerIdAfter(Integer userId, String state, String cursor, Integer size) {
+        userService.get(userId);
+        return findBookingsAfter(itemOwnerIs(userId), state, cursor, size);
+    }
+
+    private List<BookingAllFieldsDto> findBookings(Specification<Booking> user, String state, Integer from, Integer size) {
+        var spec = where(user).and(inState(state, now()));
+        var pageRequest = makePageRequest(from, size, BY_START_DESC);
+        var bookings = pageRequest == null
+                ? bookingRepository.findAll(spec, BY_START_DESC)
+                : bookingRepository.findSlice(spec, pageRequest).getContent();
+        return bookings.stream()
+                .map(BookingMapper::mapToBookingAllFieldsDto)
+                .collect(toList());
+    }
+
+    private Slice<BookingAllFieldsDto> findBookingsAfter(Specification<Booking> user, String state, String cursor, Integer size) {
+        var spec = where(user)
+                .and(inState(state, now()))
+                .and(Keyset.<Booking>after(Cursor.decode(cursor), "start", DESC));
+        return bookingRepository.findSlice(spec, makeKeysetRequest(size, BY_START_DESC))
+                .map(BookingMapper::mapToBookingAllFieldsDto);
+    }
+
+    private void checkOverlap(Integer itemId, LocalDateTime start, LocalDateTime end) {
+        bookingRepository.findLastApprovedStartingBefore(itemId, end, FIRST).stream()
+                .findFirst()
+                .filter(booking -> booking.getEnd().isAfter(start))
+                .ifPresent(booking -> {
+                    throw new ConflictException("Item with id#" + itemId + " is already booked for these dates");
+                });
     }
 
     private void validate(BookingSavingDto bookingSavingDto) {
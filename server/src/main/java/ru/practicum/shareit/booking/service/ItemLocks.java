@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+
+import java.sql.DatabaseMetaData;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes booking writes per item for the rest of the current transaction. Inside the node an
+ * item id maps onto one of a fixed set of striped locks, so different items rarely contend; across
+ * nodes PostgreSQL's transaction-scoped advisory lock on the item id does the same job, taken
+ * whenever the data source reports PostgreSQL.
+ */
+@Slf4j
+@Component
+public class ItemLocks {
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final EntityManager entityManager;
+    private final boolean advisory;
+
+    public ItemLocks(EntityManager entityManager, DataSource dataSource) throws MetaDataAccessException {
+        this.entityManager = entityManager;
+        var database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.advisory = "PostgreSQL".equals(database);
+        for (int i = 0; i < STRIPES; i++)
+            locks[i] = new ReentrantLock();
+        if (advisory)
+            log.info("Booking writes lock items within the node and with advisory locks across nodes");
+        else
+            log.info("Booking writes lock items within the node only: {} has no advisory locks", database);
+    }
+
+    public void lock(Integer itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            throw new IllegalStateException("Item lock requires an active transaction");
+        var lock = locks[stripe(itemId)];
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        if (advisory)
+            entityManager.createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock(:id)")
+                    .setParameter("id", itemId.longValue())
+                    .getSingleResult();
+    }
+
+    private static int stripe(Integer itemId) {
+        var hash = itemId.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,215 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * Bulk-loads a synthetic dataset with JDBC batches on top of the tables of schema.sql.
+ * <p>
+ * Item popularity and ownership follow Zipf distributions, and a small group of power users makes
+ * a large share of the bookings. Every item's bookings are laid out on its own timeline from
+ * {@code historyDays} ago to {@code futureDays} ahead, in consecutive non-overlapping slots, so
+ * approved bookings never collide and the data passes PostgreSQL's exclusion constraint. Comments
+ * are left only by bookers of finished approved bookings, like the service requires.
+ * <p>
+ * Ids are assigned by the database. Rows that reference users, requests and items compute those
+ * ids from the first id the load received, assuming the rest follow it consecutively; that is
+ * verified afterwards, so the generator must not run next to other writers.
+ */
+@Slf4j
+public class DatasetGenerator {
+    private static final String[] FIRST_NAMES = {"Анна", "Иван", "Мария", "Дмитрий", "Ольга", "Алексей", "Екатерина",
+            "Сергей", "Алёна", "Пётр", "John", "Emily", "Michael", "Sarah", "David", "Olivia"};
+    private static final long MAX_BOOKING_SECONDS = 14 * 24 * 3600L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetProperties properties;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(SECONDS);
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, DatasetProperties properties) {
+        if (properties.getUsers() < 2 || properties.getItems() < 1)
+            throw new IllegalArgumentException("Dataset needs at least two users and one item");
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.random = new Random(properties.getSeed());
+    }
+
+    public void generate() {
+        var started = System.currentTimeMillis();
+        var users = properties.getUsers();
+        var userBase = insertAll("users", users, new Batch("INSERT INTO users (name, email) VALUES (?, ?)",
+                Types.VARCHAR, Types.VARCHAR), i -> new Object[]{
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + (char) ('A' + random.nextInt(26)) + ".",
+                "user" + i + "." + properties.getSeed() + "@dataset.shareit"});
+
+        var requests = properties.getRequests();
+        var requestBase = insertAll("requests", requests, new Batch(
+                "INSERT INTO requests (description, requester_id, created) VALUES (?, ?, ?)",
+                Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP), i -> new Object[]{
+                Vocabulary.request(random),
+                userBase + 1 + random.nextInt(users),
+                timestamp(now.minusSeconds(randomSeconds(properties.getHistoryDays())))});
+
+        var owners = new int[properties.getItems()];
+        var ownerSampler = new ZipfSampler(users, properties.getOwnerSkew(), random);
+        var itemBase = insertAll("items", owners.length, new Batch(
+                "INSERT INTO items (name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)",
+                Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN, Types.BIGINT, Types.BIGINT), i -> {
+            owners[i] = ownerSampler.next(random);
+            var item = Vocabulary.item(random);
+            return new Object[]{item.name, item.description, random.nextInt(10) != 0, userBase + 1 + owners[i],
+                    requests > 0 && random.nextInt(5) == 0 ? requestBase + 1 + random.nextInt(requests) : null};
+        });
+
+        insertBookings(userBase, itemBase, owners);
+        log.info("Dataset generated in {} ms", System.currentTimeMillis() - started);
+    }
+
+    private void insertBookings(int userBase, int itemBase, int[] owners) {
+        var bookingsPerItem = new int[owners.length];
+        var itemSampler = new ZipfSampler(owners.length, properties.getItemSkew(), random);
+        for (int i = 0; i < properties.getBookings(); i++)
+            bookingsPerItem[itemSampler.next(random)]++;
+        var powerUsers = powerUsers();
+
+        var historySeconds = properties.getHistoryDays() * 24 * 3600L;
+        var spanSeconds = historySeconds + properties.getFutureDays() * 24 * 3600L;
+        var timelineStart = now.minusSeconds(historySeconds);
+        var finishedApproved = properties.getBookings() * (double) historySeconds / spanSeconds * 0.85;
+        var commentChance = finishedApproved == 0 ? 0 : Math.min(1, properties.getComments() / finishedApproved);
+
+        var bookings = new Batch("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) "
+                + "VALUES (?, ?, ?, ?, ?)", Types.TIMESTAMP, Types.TIMESTAMP, Types.BIGINT, Types.BIGINT, Types.VARCHAR);
+        var comments = new Batch("INSERT INTO comments (text, item_id, author_id, created) VALUES (?, ?, ?, ?)",
+                Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP);
+        var started = System.currentTimeMillis();
+        for (int item = 0; item < owners.length; item++) {
+            var count = bookingsPerItem[item];
+            if (count == 0) continue;
+            var slot = spanSeconds / count;
+            for (int k = 0; k < count; k++) {
+                var booker = booker(owners[item], powerUsers);
+                var start = timelineStart.plusSeconds(k * slot + (long) (slot * 0.2 * random.nextDouble()));
+                var length = Math.min(MAX_BOOKING_SECONDS,
+                        Math.max(1, (long) (slot * (0.2 + 0.6 * random.nextDouble()))));
+                var end = start.plusSeconds(length);
+                var status = status(start, end);
+                bookings.add(timestamp(start), timestamp(end), itemBase + 1 + item, userBase + 1 + booker, status);
+                if ("APPROVED".equals(status) && end.isBefore(now) && comments.total() < properties.getComments()
+                        && random.nextDouble() < commentChance) {
+                    var created = end.plusSeconds(Math.min(randomSeconds(7), SECONDS.between(end, now)));
+                    comments.add(Vocabulary.comment(random), itemBase + 1 + item, userBase + 1 + booker,
+                            timestamp(created));
+                }
+            }
+        }
+        bookings.flush();
+        comments.flush();
+        log.info("Inserted {} bookings and {} comments in {} ms", bookings.total(), comments.total(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * A random subset of users, drawn with a partial Fisher-Yates shuffle.
+     */
+    private int[] powerUsers() {
+        var users = new int[properties.getUsers()];
+        for (int i = 0; i < users.length; i++)
+            users[i] = i;
+        var count = Math.max(1, (int) (users.length * properties.getPowerUsers()));
+        for (int i = 0; i < count; i++) {
+            var j = i + random.nextInt(users.length - i);
+            var user = users[i];
+            users[i] = users[j];
+            users[j] = user;
+        }
+        return Arrays.copyOf(users, count);
+    }
+
+    private int booker(int owner, int[] powerUsers) {
+        while (true) {
+            var booker = random.nextDouble() < properties.getPowerUserBookings()
+                    ? powerUsers[random.nextInt(powerUsers.length)]
+                    : random.nextInt(properties.getUsers());
+            if (booker != owner) return booker;
+        }
+    }
+
+    private String status(LocalDateTime start, LocalDateTime end) {
+        var roll = random.nextInt(100);
+        if (end.isBefore(now))
+            return roll < 85 ? "APPROVED" : roll < 95 ? "REJECTED" : "CANCELED";
+        if (start.isBefore(now))
+            return roll < 95 ? "APPROVED" : "CANCELED";
+        return roll < 55 ? "APPROVED" : roll < 90 ? "WAITING" : "REJECTED";
+    }
+
+    /**
+     * Inserts the rows and returns the id preceding the first one inserted.
+     */
+    private int insertAll(String table, int count, Batch batch, IntFunction<Object[]> row) {
+        var started = System.currentTimeMillis();
+        var previous = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        for (int i = 0; i < count; i++)
+            batch.add(row.apply(i));
+        batch.flush();
+        var ids = jdbcTemplate.queryForMap("SELECT MIN(id) AS first, MAX(id) AS last FROM " + table + " WHERE id > ?",
+                previous);
+        var first = ids.get("first") == null ? previous + 1 : ((Number) ids.get("first")).longValue();
+        var last = ids.get("last") == null ? previous : ((Number) ids.get("last")).longValue();
+        if (last - first + 1 != count)
+            throw new IllegalStateException("Ids of " + table + " were not assigned consecutively, "
+                    + "the dataset must be loaded without concurrent writers");
+        log.info("Inserted {} {} in {} ms", count, table, System.currentTimeMillis() - started);
+        return Math.toIntExact(first - 1);
+    }
+
+    private long randomSeconds(int days) {
+        return (long) (random.nextDouble() * days * 24 * 3600);
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime);
+    }
+
+    private class Batch {
+        private final String sql;
+        private final int[] types;
+        private final List<Object[]> rows = new ArrayList<>();
+        private int total;
+
+        Batch(String sql, int... types) {
+            this.sql = sql;
+            this.types = types;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= properties.getBatchSize())
+                flush();
+        }
+
+        void flush() {
+            if (rows.isEmpty()) return;
+            jdbcTemplate.batchUpdate(sql, rows, types);
+            total += rows.size();
+            rows.clear();
+        }
+
+        int total() {
+            return total + rows.size();
+        }
+    }
+}
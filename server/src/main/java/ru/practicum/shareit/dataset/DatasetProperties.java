@@ -0,0 +1,45 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Volumes and distribution shape of the generated dataset, bound from {@code shareit.dataset.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.dataset")
+public class DatasetProperties {
+    private int users = 10_000;
+    private int requests = 20_000;
+    private int items = 100_000;
+    private int bookings = 1_000_000;
+    private int comments = 200_000;
+
+    /**
+     * Zipf exponent of item popularity: the share of bookings the most booked items receive.
+     */
+    private double itemSkew = 1.0;
+
+    /**
+     * Zipf exponent of item ownership: how strongly items concentrate on a few owners.
+     */
+    private double ownerSkew = 0.8;
+
+    /**
+     * Fraction of users that are power users, and the fraction of all bookings they make.
+     */
+    private double powerUsers = 0.01;
+    private double powerUserBookings = 0.3;
+
+    private int historyDays = 3 * 365;
+    private int futureDays = 90;
+    private int batchSize = 5_000;
+    private long seed = 42;
+
+    /**
+     * Stops the application once the dataset is loaded, for one-off runs from the command line.
+     */
+    private boolean exit;
+}
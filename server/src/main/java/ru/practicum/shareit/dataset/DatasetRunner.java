@@ -0,0 +1,32 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the synthetic dataset at startup when the {@code dataset} profile is active, e.g.
+ * {@code java -jar shareit-server.jar --spring.profiles.active=dataset --shareit.dataset.exit=true}.
+ */
+@Component
+@Profile("dataset")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DatasetProperties.class)
+public class DatasetRunner implements ApplicationRunner {
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        new DatasetGenerator(jdbcTemplate, properties).generate();
+        if (properties.isExit())
+            System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.practicum.shareit.dataset;
+
+import java.util.Random;
+
+/**
+ * Russian and English phrases for generated names and texts. Russian entries include inflected
+ * forms and words spelt with "ё", so search is exercised on the text it meets in production.
+ */
+class Vocabulary {
+    private static final String[][] THINGS = {
+            {"Дрель", "Drill"}, {"Перфоратор", "Hammer drill"}, {"Шуруповёрт", "Cordless screwdriver"},
+            {"Лобзик", "Jigsaw"}, {"Болгарка", "Angle grinder"}, {"Шлифмашина", "Sander"},
+            {"Стремянка", "Stepladder"}, {"Лестница", "Ladder"}, {"Палатка", "Tent"}, {"Спальник", "Sleeping bag"},
+            {"Рюкзак", "Backpack"}, {"Велосипед", "Bike"}, {"Самокат", "Scooter"}, {"Байдарка", "Kayak"},
+            {"Сапборд", "Paddle board"}, {"Лыжи", "Skis"}, {"Сноуборд", "Snowboard"}, {"Коньки", "Ice skates"},
+            {"Фотоаппарат", "Camera"}, {"Объектив", "Lens"}, {"Штатив", "Tripod"}, {"Проектор", "Projector"},
+            {"Колонка", "Speaker"}, {"Гитара", "Guitar"}, {"Синтезатор", "Keyboard"}, {"Миксер", "Mixer"},
+            {"Блендер", "Blender"}, {"Мультиварка", "Slow cooker"}, {"Пароварка", "Steamer"},
+            {"Ёлка искусственная", "Artificial Christmas tree"}, {"Ёлочная гирлянда", "Christmas lights"},
+            {"Ёмкость для воды", "Water tank"}, {"Мангал", "Grill"}, {"Газонокосилка", "Lawn mower"},
+            {"Триммер", "Trimmer"}, {"Бензопила", "Chainsaw"}, {"Мойка высокого давления", "Pressure washer"},
+            {"Пылесос", "Vacuum cleaner"}, {"Пароочиститель", "Steam cleaner"}, {"Автокресло", "Car seat"},
+            {"Коляска", "Stroller"}, {"Манеж", "Playpen"}, {"Настольная игра", "Board game"},
+            {"Домкрат", "Car jack"}, {"Компрессор", "Air compressor"}, {"Сварочный аппарат", "Welder"},
+            {"Тачка садовая", "Wheelbarrow"}, {"Удочка", "Fishing rod"}, {"Эхолот", "Fish finder"}
+    };
+    private static final String[] BRANDS = {"Bosch", "Makita", "DeWALT", "Интерскол", "Зубр", "Stels", "Trek",
+            "Canon", "Nikon", "Sony", "Yamaha", "Philips", "Redmond", "Karcher", "Stihl", "Husqvarna", "Tefal"};
+    private static final String[] CONDITIONS_RU = {"в отличном состоянии", "использовали пару раз",
+            "с зарядкой и кейсом", "для дома и дачи", "проверено, всё работает", "есть следы использования",
+            "с документами и гарантией", "подойдёт для начинающих", "ёмкий аккумулятор",
+            "выдаю с инструкцией", "берегите от влаги", "для походов и поездок за город"};
+    private static final String[] CONDITIONS_EN = {"in great condition", "barely used", "with charger and case",
+            "for home and garden", "tested and working", "some signs of wear", "with manual and warranty",
+            "good for beginners", "powerful, long battery life", "keep away from water", "for hiking and trips"};
+    private static final String[] REQUESTS_RU = {"Ищу %s на выходные", "Нужно на пару дней: %s",
+            "Возьму в аренду: %s", "Срочно ищу %s, верну вовремя"};
+    private static final String[] REQUESTS_EN = {"Looking for a %s for the weekend", "Need a %s for a couple of days",
+            "Would rent a %s", "Urgently need a %s, will return on time"};
+    private static final String[] COMMENTS_RU = {"Всё отлично, спасибо!", "Работает как надо",
+            "Хозяин отзывчивый, вещь чистая", "Немного потрёпанная, но своё дело сделала", "Рекомендую",
+            "Ёмкости аккумулятора хватило на весь день"};
+    private static final String[] COMMENTS_EN = {"Great, thanks!", "Works as expected",
+            "Friendly owner, clean item", "A bit worn but did the job", "Recommended", "Battery lasted all day"};
+
+    private Vocabulary() {
+    }
+
+    static Item item(Random random) {
+        var thing = THINGS[random.nextInt(THINGS.length)];
+        var brand = BRANDS[random.nextInt(BRANDS.length)];
+        if (russian(random))
+            return new Item(thing[0] + " " + brand,
+                    thing[0] + " " + brand + ", " + pick(CONDITIONS_RU, random));
+        return new Item(thing[1] + " " + brand,
+                brand + " " + thing[1].toLowerCase() + ", " + pick(CONDITIONS_EN, random));
+    }
+
+    static String request(Random random) {
+        var thing = THINGS[random.nextInt(THINGS.length)];
+        if (russian(random))
+            return String.format(pick(REQUESTS_RU, random), thing[0].toLowerCase());
+        return String.format(pick(REQUESTS_EN, random), thing[1].toLowerCase());
+    }
+
+    static String comment(Random random) {
+        return russian(random) ? pick(COMMENTS_RU, random) : pick(COMMENTS_EN, random);
+    }
+
+    private static boolean russian(Random random) {
+        return random.nextInt(10) < 6;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    static class Item {
+        final String name;
+        final String description;
+
+        Item(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.dataset;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws values 0..n-1 with probability proportional to 1 / rank^exponent. Ranks are shuffled onto
+ * values, so the popular values are scattered over the id range instead of being its first ids.
+ */
+class ZipfSampler {
+    private final double[] cumulative;
+    private final int[] values;
+
+    ZipfSampler(int n, double exponent, Random random) {
+        cumulative = new double[n];
+        var sum = 0.0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        values = new int[n];
+        for (int i = 0; i < n; i++)
+            values[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            var value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    int next(Random random) {
+        var target = random.nextDouble() * cumulative[cumulative.length - 1];
+        var rank = Arrays.binarySearch(cumulative, target);
+        return values[rank < 0 ? Math.min(-rank - 1, values.length - 1) : rank];
+    }
+}
@@ -2,11 +2,21 @@ package ru.practicum.shareit.item;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.item.search.SearchFilter;
+import ru.practicum.shareit.item.search.SearchSort;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.utils.Cursor;
 
+import javax.validation.ValidationException;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,6 +28,7 @@ import java.util.List;
 @RequestMapping("/items")
 public class ItemController {
     private static final String HEADER_SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final String HEADER_DID_YOU_MEAN = "X-Did-You-Mean";
     private final ItemRequestService itemRequestService;
     private final ItemService itemService;
 
@@ -49,18 +60,84 @@ public class ItemController {
     }
 
     @GetMapping()
-    public List<ItemDtoWithBooking> getAllItems(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
-                                                @RequestParam(required = false) Integer from,
-                                                @RequestParam(required = false) Integer size) {
-        return itemService.getAllItems(userId, from, size);
+    public ResponseEntity<List<ItemDtoWithBooking>> getAllItems(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
+                                                                @RequestParam(required = false) Integer from,
+                                                                @RequestParam(required = false) Integer size,
+                                                                @RequestParam(required = false) String cursor) {
+        if (cursor == null)
+            return ResponseEntity.ok(itemService.getAllItems(userId, from, size));
+        return Cursor.toResponse(itemService.getAllItemsAfter(userId, cursor, size),
+                item -> Cursor.encode(item.getId()));
     }
 
     @GetMapping("/search")
-    public List<ItemDto> search(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
-                                @RequestParam(required = false) Integer from,
-                                @RequestParam(required = false) Integer size,
-                                @RequestParam(required = false) String text) {
-        return itemService.search(text, userId, from, size);
+    public ResponseEntity<List<ItemDto>> search(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
+                                                @RequestParam(required = false) Integer from,
+                                                @RequestParam(required = false) Integer size,
+                                                @RequestParam(required = false) String text,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) String sort,
+                                                @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                @RequestParam(required = false) Integer ownerId,
+                                                @RequestParam(required = false) Boolean request,
+                                                @RequestParam(required = false) String window,
+                                                @RequestParam(name = "available_from", required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableFrom,
+                                                @RequestParam(name = "available_to", required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableTo) {
+        var order = SearchSort.from(sort);
+        var filter = SearchFilter.of(ownerId, request, window, availableFrom, availableTo);
+        if (cursor == null) {
+            if (!filter.isEmpty())
+                return withCorrection(text, itemService.searchFiltered(text, order, fuzzy, filter, userId, from, size),
+                        fuzzy);
+            if (fuzzy)
+                return withCorrection(text, itemService.searchFuzzy(text, order, userId, from, size), true);
+            return withCorrection(text, order == SearchSort.RELEVANCE
+                    ? itemService.searchByRelevance(text, userId, from, size)
+                    : itemService.search(text, userId, from, size), false);
+        }
+        if (order == SearchSort.RELEVANCE)
+            throw new ValidationException("Search by cursor is ordered by id only");
+        if (fuzzy)
+            throw new ValidationException("Search by cursor is not fuzzy");
+        if (!filter.isEmpty())
+            throw new ValidationException("Search by cursor is not filtered");
+        return Cursor.toResponse(itemService.searchAfter(text, userId, cursor, size),
+                item -> Cursor.encode(item.getId()));
+    }
+
+    @GetMapping("/search/facets")
+    public ItemFacetsDto facets(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
+                                @RequestParam(required = false) String text,
+                                @RequestParam(defaultValue = "false") boolean fuzzy,
+                                @RequestParam(required = false) Integer ownerId,
+                                @RequestParam(required = false) Boolean request,
+                                @RequestParam(required = false) String window,
+                                @RequestParam(name = "available_from", required = false)
+                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableFrom,
+                                @RequestParam(name = "available_to", required = false)
+                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableTo) {
+        var filter = SearchFilter.of(ownerId, request, window, availableFrom, availableTo);
+        return itemService.facets(text, fuzzy, filter, userId);
+    }
+
+    /**
+     * Adds the corrected text, URL-encoded, as {@value #HEADER_DID_YOU_MEAN} to fuzzy results and to
+     * empty exact ones.
+     */
+    private ResponseEntity<List<ItemDto>> withCorrection(String text, List<ItemDto> items, boolean fuzzy) {
+        var response = ResponseEntity.ok();
+        if (fuzzy || items.isEmpty())
+            itemService.correct(text).ifPresent(corrected ->
+                    response.header(HEADER_DID_YOU_MEAN, URLEncoder.encode(corrected, StandardCharsets.UTF_8)));
+        return response.body(items);
+    }
+
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestParam(required = false) String prefix,
+                                @RequestParam(required = false) Integer size) {
+        return itemService.suggest(prefix, size);
     }
 
     @PostMapping("{itemId}/comment")
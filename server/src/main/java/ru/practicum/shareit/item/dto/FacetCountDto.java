@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The number of search results having a facet value, given as the filter parameter that selects them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDto {
+    private String value;
+    private int count;
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Counts of the search results by owner ({@code ownerId}), by whether they answer a request
+ * ({@code request}) and by the windows they are free in ({@code window}). Each facet counts the
+ * results passing the filters on the other facets; {@code total} passes all of them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFacetsDto {
+    private int total;
+    private List<FacetCountDto> owner;
+    private List<FacetCountDto> request;
+    private List<FacetCountDto> window;
+}
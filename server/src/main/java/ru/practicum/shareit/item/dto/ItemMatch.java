@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Value;
+
+/**
+ * The part of an item search facets need: which item it is, who owns it and which request it answers. Read with
+ * a constructor expression or from native rows rather than as an interface projection, which would proxy each of
+ * the thousands of matches.
+ */
+@Value
+public class ItemMatch {
+    Integer id;
+    Integer ownerId;
+    Integer requestId;
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.dto;
+
+/**
+ * The part of an item the in-memory search index keeps: its texts and the ids a search result shows.
+ */
+public interface ItemSearchView {
+    Integer getId();
+
+    String getName();
+
+    String getDescription();
+
+    Integer getOwnerId();
+
+    Integer getRequestId();
+}
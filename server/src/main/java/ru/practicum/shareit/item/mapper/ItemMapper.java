@@ -33,6 +33,23 @@ public class ItemMapper {
                 .build();
     }
 
+    public static ItemMatch mapToItemMatch(Item item) {
+        return new ItemMatch(
+                item.getId(),
+                item.getOwner() != null ? item.getOwner().getId() : null,
+                item.getRequest() != null ? item.getRequest().getId() : null);
+    }
+
+    /**
+     * A native row of {@code id, owner_id, request_id}, the ids read as whatever integer type the driver gives.
+     */
+    public static ItemMatch mapToItemMatch(Object[] row) {
+        return new ItemMatch(
+                ((Number) row[0]).intValue(),
+                row[1] != null ? ((Number) row[1]).intValue() : null,
+                row[2] != null ? ((Number) row[2]).intValue() : null);
+    }
+
     public static ItemAllFieldsDto mapToItemAllFieldsDto(Item item,
                                                          Booking lastBooking,
                                                          Booking nextBooking,
@@ -31,11 +31,20 @@ public class Item {
     @Column(nullable = false)
     private Boolean available;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "request_id")
     private ItemRequest request;
+
+    @Version
+    private int version;
+
+    public Item(Integer id, String name, String description, Boolean available, User owner, ItemRequest request) {
+        this(id, name, description, available, owner, request, 0);
+    }
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
+    @Override
+    @EntityGraph(Comment.WITH_AUTHOR)
+    List<Comment> findAll();
+
+    @EntityGraph(Comment.WITH_AUTHOR)
     List<Comment> findCommentByItem_IdIsOrderByCreated(Integer itemId);
 
-    List<Comment> getByItemIdOrderByCreatedDesc(Integer itemId);
+    @EntityGraph(Comment.WITH_AUTHOR)
+    List<Comment> getByItemIdInOrderByCreatedDesc(Collection<Integer> itemIds);
 }
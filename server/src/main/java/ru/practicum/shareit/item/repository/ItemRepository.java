@@ -2,19 +2,58 @@ package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.dto.ItemSearchView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.utils.KeysetRepository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
-public interface ItemRepository extends JpaRepository<Item, Integer> {
+public interface ItemRepository extends KeysetRepository<Item, Integer> {
     String searchQuery = "SELECT item FROM Item item " +
             "WHERE item.available = TRUE " +
             "AND (UPPER(item.name) LIKE UPPER(CONCAT('%', ?1, '%')) " +
             "OR UPPER(item.description) LIKE UPPER(CONCAT('%', ?1, '%')))";
+    /**
+     * The ids, owners and requests of the matches passing the owner and request criteria, each let through when null.
+     */
+    String matchQuery = "SELECT new ru.practicum.shareit.item.dto.ItemMatch(item.id, item.owner.id, request.id) " +
+            "FROM Item item LEFT JOIN item.request request " +
+            "WHERE item.available = TRUE " +
+            "AND (UPPER(item.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+            "OR UPPER(item.description) LIKE UPPER(CONCAT('%', :text, '%'))) " +
+            "AND (:ownerId IS NULL OR item.owner.id = :ownerId) " +
+            "AND (:answersRequest IS NULL OR :answersRequest = TRUE AND request.id IS NOT NULL " +
+            "OR :answersRequest = FALSE AND request.id IS NULL) ";
+    String trigramMatch = "WHERE available AND (lower(name) LIKE '%' || lower(:text) || '%' " +
+            "OR lower(description) LIKE '%' || lower(:text) || '%') ";
+    String trigramQuery = "SELECT * FROM items " + trigramMatch;
+    String tsQuery = "websearch_to_tsquery('russian', translate(:text, 'ёЁ', 'еЕ'))";
+    String fullTextMatch = "WHERE available AND search_vector @@ " + tsQuery + " ";
+    String fullTextQuery = "SELECT * FROM items " + fullTextMatch;
+    /**
+     * The native counterparts of the columns and criteria of {@link #matchQuery}. Hibernate binds a null argument of
+     * a native query as {@code bytea}, which casts to neither integer nor boolean, so the criteria go through text.
+     */
+    String matchColumns = "SELECT id, owner_id, request_id FROM items ";
+    String facetCriteria = "AND (CAST(CAST(:ownerId AS text) AS integer) IS NULL " +
+            "OR owner_id = CAST(CAST(:ownerId AS text) AS integer)) " +
+            "AND (CAST(CAST(:answersRequest AS text) AS boolean) IS NULL " +
+            "OR (request_id IS NOT NULL) = CAST(CAST(:answersRequest AS text) AS boolean)) ";
+    /**
+     * Anti-join with the bookings taking an item during {@code [:from, :to)}, written so that the partial
+     * GiST index on {@code (item_id, tsrange(start_date, end_date))} serves it.
+     */
+    String freeOfBookings = "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.item_id = items.id " +
+            "AND b.status IN ('APPROVED', 'WAITING') " +
+            "AND tsrange(b.start_date, b.end_date) && tsrange(:from, :to)) ";
 
     List<Item> findAllByRequestIn(List<ItemRequest> requests);
 
@@ -26,5 +65,128 @@ public interface ItemRepository extends JpaRepository<Item, Integer> {
     @Query(searchQuery)
     List<Item> search(String text);
 
+    @Query("SELECT item FROM Item item " +
+            "WHERE item.available = TRUE " +
+            "AND (UPPER(item.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+            "OR UPPER(item.description) LIKE UPPER(CONCAT('%', :text, '%'))) " +
+            "AND NOT EXISTS (SELECT booking.id FROM Booking booking WHERE booking.item = item " +
+            "AND booking.status IN :statuses AND booking.start < :to AND booking.end > :from) " +
+            "ORDER BY item.id")
+    List<Item> searchFree(@Param("text") String text,
+                          @Param("statuses") Collection<BookingStatus> statuses,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to,
+                          Pageable pageable);
+
+    @Query(matchQuery + "ORDER BY item.id")
+    List<ItemMatch> match(@Param("text") String text,
+                          @Param("ownerId") Integer ownerId,
+                          @Param("answersRequest") Boolean answersRequest);
+
+    @Query(matchQuery + "AND NOT EXISTS (SELECT booking.id FROM Booking booking WHERE booking.item = item " +
+            "AND booking.status IN :statuses AND booking.start < :to AND booking.end > :from) " +
+            "ORDER BY item.id")
+    List<ItemMatch> matchFree(@Param("text") String text,
+                              @Param("ownerId") Integer ownerId,
+                              @Param("answersRequest") Boolean answersRequest,
+                              @Param("statuses") Collection<BookingStatus> statuses,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to);
+
+    @Query(value = fullTextQuery + "ORDER BY id", nativeQuery = true)
+    List<Item> searchFullText(@Param("text") String text, Pageable pageable);
+
+    @Query(value = fullTextQuery + freeOfBookings + "ORDER BY id", nativeQuery = true)
+    List<Item> searchFullTextFree(@Param("text") String text,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  Pageable pageable);
+
+    @Query(value = fullTextQuery +
+            "ORDER BY ts_rank(search_vector, " + tsQuery + ") DESC, id",
+            nativeQuery = true)
+    List<Item> searchFullTextRanked(@Param("text") String text, Pageable pageable);
+
+    @Query(value = fullTextQuery + "AND id > :after ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Item> searchFullTextAfter(@Param("text") String text,
+                                   @Param("after") Integer after,
+                                   @Param("limit") int limit);
+
+    @Query(value = matchColumns + fullTextMatch + facetCriteria + "ORDER BY id", nativeQuery = true)
+    List<Object[]> matchFullText(@Param("text") String text,
+                                 @Param("ownerId") Integer ownerId,
+                                 @Param("answersRequest") Boolean answersRequest);
+
+    @Query(value = matchColumns + fullTextMatch + facetCriteria + freeOfBookings + "ORDER BY id", nativeQuery = true)
+    List<Object[]> matchFullTextFree(@Param("text") String text,
+                                     @Param("ownerId") Integer ownerId,
+                                     @Param("answersRequest") Boolean answersRequest,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    @Query(value = matchColumns + fullTextMatch + facetCriteria +
+            "ORDER BY ts_rank(search_vector, " + tsQuery + ") DESC, id",
+            nativeQuery = true)
+    List<Object[]> matchFullTextRanked(@Param("text") String text,
+                                       @Param("ownerId") Integer ownerId,
+                                       @Param("answersRequest") Boolean answersRequest);
+
+    @Query(value = trigramQuery + "ORDER BY id", nativeQuery = true)
+    List<Item> searchTrigram(@Param("text") String text, Pageable pageable);
+
+    /**
+     * Names closest to the text by pg_trgm {@code similarity} first, so names matching it whole come before names
+     * around it and those before description-only matches; then shorter descriptions. Scoring descriptions with
+     * {@code similarity} too would double the cost for little difference among names that tie.
+     */
+    @Query(value = trigramQuery + "ORDER BY similarity(lower(name), lower(:text)) DESC, length(description), id",
+            nativeQuery = true)
+    List<Item> searchTrigramRanked(@Param("text") String text, Pageable pageable);
+
+    @Query(value = trigramQuery + freeOfBookings + "ORDER BY id", nativeQuery = true)
+    List<Item> searchTrigramFree(@Param("text") String text,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 Pageable pageable);
+
+    @Query(value = trigramQuery + "AND id > :after ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Item> searchTrigramAfter(@Param("text") String text,
+                                  @Param("after") Integer after,
+                                  @Param("limit") int limit);
+
+    @Query(value = matchColumns + trigramMatch + facetCriteria + "ORDER BY id", nativeQuery = true)
+    List<Object[]> matchTrigram(@Param("text") String text,
+                                @Param("ownerId") Integer ownerId,
+                                @Param("answersRequest") Boolean answersRequest);
+
+    @Query(value = matchColumns + trigramMatch + facetCriteria + freeOfBookings + "ORDER BY id", nativeQuery = true)
+    List<Object[]> matchTrigramFree(@Param("text") String text,
+                                    @Param("ownerId") Integer ownerId,
+                                    @Param("answersRequest") Boolean answersRequest,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    @Query(value = matchColumns + trigramMatch + facetCriteria +
+            "ORDER BY similarity(lower(name), lower(:text)) DESC, length(description), id",
+            nativeQuery = true)
+    List<Object[]> matchTrigramRanked(@Param("text") String text,
+                                      @Param("ownerId") Integer ownerId,
+                                      @Param("answersRequest") Boolean answersRequest);
+
     Collection<Item> findByOwnerIdOrderByIdAsc(Integer userId);
+
+    Slice<Item> findByOwnerId(Integer userId, Pageable pageable);
+
+    @Query("SELECT item.id AS id, item.name AS name, item.description AS description, " +
+            "item.owner.id AS ownerId, request.id AS requestId " +
+            "FROM Item item LEFT JOIN item.request request " +
+            "WHERE item.available = TRUE AND item.id > ?1 ORDER BY item.id")
+    List<ItemSearchView> findSearchViews(Integer after, Pageable pageable);
+
+    /**
+     * The items the foreign keys delete together with the user: those they own and those answering their requests.
+     */
+    @Query("SELECT item FROM Item item LEFT JOIN item.request request " +
+            "WHERE item.owner.id = ?1 OR request.requester.id = ?1")
+    List<Item> findDeletedWithUser(Integer userId);
 }
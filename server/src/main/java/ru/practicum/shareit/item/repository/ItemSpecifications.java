@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.item.model.Item;
+
+public class ItemSpecifications {
+    public static Specification<Item> ownerIs(Integer ownerId) {
+        return (root, query, builder) -> builder.equal(root.get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Item> availableWithText(String text) {
+        return (root, query, builder) -> {
+            var pattern = "%" + text.toUpperCase() + "%";
+            return builder.and(
+                    builder.isTrue(root.get("available")),
+                    builder.or(
+                            builder.like(builder.upper(root.get("name")), pattern),
+                            builder.like(builder.upper(root.get("description")), pattern)));
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.ru.RussianAnalyzer;
+import org.tartarus.snowball.SnowballStemmer;
+import org.tartarus.snowball.ext.EnglishStemmer;
+import org.tartarus.snowball.ext.RussianStemmer;
+
+import java.util.*;
+
+/**
+ * Turns text into search terms: lowercased, "ё" folded into "е", split by the {@link Tokenizer},
+ * stop-words dropped and the rest reduced to Snowball stems, Russian for Cyrillic words and English
+ * for Latin ones. Words in other scripts and numbers are kept as they are.
+ * <p>
+ * Stems are cached by word in a Caffeine cache of at most {@value #CACHE_SIZE} words. Its W-TinyLFU
+ * eviction keeps the frequent words of the catalog and of queries and lets one-off typos go.
+ */
+class Analyzer {
+    static final int CACHE_SIZE = 100_000;
+    private static final String NO_TERM = "";
+    private static final Set<String> STOP_WORDS = stopWords(RussianAnalyzer.getDefaultStopSet(),
+            EnglishAnalyzer.ENGLISH_STOP_WORDS_SET);
+    private static final ThreadLocal<SnowballStemmer> RUSSIAN = ThreadLocal.withInitial(RussianStemmer::new);
+    private static final ThreadLocal<SnowballStemmer> ENGLISH = ThreadLocal.withInitial(EnglishStemmer::new);
+    private static final Cache<String, String> TERMS = Caffeine.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .executor(Runnable::run)
+            .build();
+
+    private Analyzer() {
+    }
+
+    /**
+     * The text as it is matched for substrings: lowercased, with "ё" folded into "е".
+     */
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replace('ё', 'е');
+    }
+
+    static List<String> terms(String text) {
+        var terms = new ArrayList<String>();
+        for (String token : Tokenizer.tokens(normalize(text))) {
+            var term = TERMS.get(token, Analyzer::analyze);
+            if (!term.isEmpty())
+                terms.add(term);
+        }
+        return terms;
+    }
+
+    static long cachedWords() {
+        TERMS.cleanUp();
+        return TERMS.estimatedSize();
+    }
+
+    private static String analyze(String token) {
+        if (STOP_WORDS.contains(token)) return NO_TERM;
+        var stemmer = stemmer(token);
+        if (stemmer == null) return token;
+        stemmer.setCurrent(token);
+        stemmer.stem();
+        return stemmer.getCurrent();
+    }
+
+    private static SnowballStemmer stemmer(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            var block = Character.UnicodeBlock.of(token.charAt(i));
+            if (block == Character.UnicodeBlock.CYRILLIC) return RUSSIAN.get();
+            if (block == Character.UnicodeBlock.BASIC_LATIN && Character.isLetter(token.charAt(i)))
+                return ENGLISH.get();
+        }
+        return null;
+    }
+
+    private static Set<String> stopWords(CharArraySet... sets) {
+        var words = new HashSet<String>();
+        for (CharArraySet set : sets)
+            for (Object word : set)
+                words.add(normalize(new String((char[]) word)));
+        return words;
+    }
+}
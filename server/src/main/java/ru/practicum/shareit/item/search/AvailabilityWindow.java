@@ -0,0 +1,41 @@
+package ru.practicum.shareit.item.search;
+
+import javax.validation.ValidationException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A period starting now during which an item has to be free of approved and waiting bookings:
+ * at the moment, for the next week or for the next thirty days.
+ */
+public enum AvailabilityWindow {
+    NOW(Duration.ZERO),
+    WEEK(Duration.ofDays(7)),
+    MONTH(Duration.ofDays(30));
+
+    private final Duration length;
+
+    AvailabilityWindow(Duration length) {
+        this.length = length;
+    }
+
+    public static AvailabilityWindow from(String window) {
+        if (window == null) return null;
+        for (AvailabilityWindow value : values()) {
+            if (value.name().equalsIgnoreCase(window))
+                return value;
+        }
+        throw new ValidationException("Unknown window: " + window);
+    }
+
+    LocalDateTime end(LocalDateTime now) {
+        return now.plus(length);
+    }
+
+    /**
+     * Whether a booking from {@code start} to {@code end} takes the item during the window starting {@code now}.
+     */
+    boolean overlaps(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        return end.isAfter(now) && (!start.isAfter(now) || start.isBefore(end(now)));
+    }
+}
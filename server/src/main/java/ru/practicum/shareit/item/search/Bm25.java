@@ -0,0 +1,102 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+import ru.practicum.shareit.utils.TopK;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * BM25F relevance of an item to a query: the name and the description are scored as separate
+ * fields, each normalized by its average length over the corpus, and a term in the name counts
+ * {@value #NAME_WEIGHT} times a term in the description before saturation.
+ */
+class Bm25 {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private final int documents;
+    private final double averageName;
+    private final double averageDescription;
+    private final ToIntFunction<String> documentFrequency;
+
+    Bm25(int documents, double averageName, double averageDescription, ToIntFunction<String> documentFrequency) {
+        this.documents = documents;
+        this.averageName = Math.max(averageName, 1);
+        this.averageDescription = Math.max(averageDescription, 1);
+        this.documentFrequency = documentFrequency;
+    }
+
+    /**
+     * A scorer whose statistics are taken from the given documents alone.
+     */
+    static Bm25 of(Collection<Document> corpus) {
+        var frequencies = new HashMap<String, Integer>();
+        long name = 0;
+        long description = 0;
+        for (Document document : corpus) {
+            name += document.nameTerms.length;
+            description += document.descriptionTerms.length;
+            for (String term : document.terms())
+                frequencies.merge(term, 1, Integer::sum);
+        }
+        var size = Math.max(corpus.size(), 1);
+        return new Bm25(corpus.size(), (double) name / size, (double) description / size,
+                term -> frequencies.getOrDefault(term, 0));
+    }
+
+    double score(Collection<String> query, Document document) {
+        var nameNorm = 1 - B + B * document.nameTerms.length / averageName;
+        var descriptionNorm = 1 - B + B * document.descriptionTerms.length / averageDescription;
+        var score = 0.0;
+        for (String term : query) {
+            var tf = NAME_WEIGHT * count(document.nameTerms, term) / nameNorm
+                    + DESCRIPTION_WEIGHT * count(document.descriptionTerms, term) / descriptionNorm;
+            if (tf == 0) continue;
+            var df = documentFrequency.applyAsInt(term);
+            var idf = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+            score += idf * tf * (K1 + 1) / (tf + K1);
+        }
+        return score;
+    }
+
+    /**
+     * The best documents for the query, from the {@code skip}-th on: highest score first, then lowest id.
+     */
+    List<Document> top(Iterable<Document> candidates, String text, long skip, int limit) {
+        return top(candidates, new LinkedHashSet<>(Analyzer.terms(text)), skip, limit);
+    }
+
+    List<Document> top(Iterable<Document> candidates, Collection<String> query, long skip, int limit) {
+        var best = new TopK<Scored>((int) Math.min(Integer.MAX_VALUE, skip + limit), Scored.ORDER);
+        for (Document document : candidates)
+            best.add(new Scored(document, score(query, document)));
+        var top = best.toList();
+        var result = new ArrayList<Document>();
+        for (int i = (int) Math.min(skip, top.size()); i < top.size(); i++)
+            result.add(top.get(i).document);
+        return result;
+    }
+
+    private static int count(String[] terms, String term) {
+        var count = 0;
+        for (String value : terms)
+            if (value.equals(term)) count++;
+        return count;
+    }
+
+    private static class Scored {
+        static final Comparator<Scored> ORDER = Comparator.<Scored>comparingDouble(scored -> -scored.score)
+                .thenComparingInt(scored -> scored.document.id);
+
+        final Document document;
+        final double score;
+
+        Scored(Document document, double score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * BM25 for the searches that find their matches in the database, with the document frequencies and average field
+ * lengths of all the available items rather than of the matches at hand. The statistics are loaded once the
+ * application is ready and follow saved and deleted items after their transactions commit; like the {@code index}
+ * search they see only the changes made by this process.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${shareit.item.search:like}' != 'index'")
+public class CorpusRanking {
+    private static final int LOAD_BATCH = 10_000;
+
+    private final ItemRepository itemRepository;
+    private final Object writes = new Object();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Statistics statistics = new Statistics();
+
+    public CorpusRanking(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * Loads the statistics anew. Changes committed meanwhile wait for the load, so that none lands in the
+     * statistics being replaced; ranking goes on with them until the swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var started = System.currentTimeMillis();
+        var rebuilt = new Statistics();
+        synchronized (writes) {
+            var after = 0;
+            while (true) {
+                var views = itemRepository.findSearchViews(after, PageRequest.ofSize(LOAD_BATCH));
+                if (views.isEmpty()) break;
+                views.forEach(view -> rebuilt.put(Document.of(view)));
+                after = views.get(views.size() - 1).getId();
+            }
+            lock.writeLock().lock();
+            try {
+                statistics = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Loaded BM25 statistics of {} items in {} ms", rebuilt.entries.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * The candidates by relevance to the text, best first and in their given order when scores tie, from the
+     * page's offset on; all of them when {@code pageable} is null.
+     */
+    public List<Item> rank(List<Item> candidates, String text, @Nullable Pageable pageable) {
+        var ranked = order(candidates, Document::of, text);
+        if (pageable == null)
+            return ranked;
+        var from = (int) Math.min(pageable.getOffset(), ranked.size());
+        return ranked.subList(from, Math.min(ranked.size(), from + pageable.getPageSize()));
+    }
+
+    /**
+     * The matches with the first {@code head} of them, read by id, ordered by relevance to the text, and the
+     * rest after them as given.
+     */
+    public List<ItemMatch> rank(List<ItemMatch> matches, String text, int head) {
+        if (matches.isEmpty())
+            return matches;
+        var top = matches.subList(0, Math.min(head, matches.size()));
+        var items = itemRepository.findAllById(top.stream().map(ItemMatch::getId).collect(toList())).stream()
+                .collect(toMap(Item::getId, Document::of));
+        var result = new ArrayList<>(order(top, match -> items.get(match.getId()), text));
+        result.addAll(matches.subList(top.size(), matches.size()));
+        return result;
+    }
+
+    /**
+     * Applies the item's current text and availability once the current transaction commits.
+     */
+    public void saved(Item item) {
+        var id = item.getId();
+        var document = Boolean.TRUE.equals(item.getAvailable()) ? Document.of(item) : null;
+        afterCommit(() -> apply(id, document));
+    }
+
+    /**
+     * Forgets the items once the current transaction, which deletes them, commits.
+     */
+    public void removed(Collection<Integer> itemIds) {
+        var ids = List.copyOf(itemIds);
+        afterCommit(() -> ids.forEach(id -> apply(id, null)));
+    }
+
+    private <T> List<T> order(List<T> candidates, Function<T, Document> documents, String text) {
+        var query = new LinkedHashSet<>(Analyzer.terms(text));
+        var bm25 = scorer(query);
+        var scores = new double[candidates.size()];
+        var positions = new ArrayList<Integer>(candidates.size());
+        for (int i = 0; i < scores.length; i++) {
+            var document = documents.apply(candidates.get(i));
+            scores[i] = document == null ? 0 : bm25.score(query, document);
+            positions.add(i);
+        }
+        positions.sort(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparingInt(i -> i));
+        return positions.stream().map(candidates::get).collect(toList());
+    }
+
+    /**
+     * A scorer with the current statistics of the query's terms, copied so that scoring needs no lock.
+     */
+    private Bm25 scorer(Collection<String> query) {
+        lock.readLock().lock();
+        try {
+            var frequencies = new HashMap<String, Integer>();
+            var documents = statistics.entries.size();
+            for (String term : query) {
+                var frequency = statistics.frequencies.getOrDefault(term, 0);
+                frequencies.put(term, frequency);
+                documents = Math.max(documents, frequency);
+            }
+            var size = Math.max(statistics.entries.size(), 1);
+            return new Bm25(documents, (double) statistics.nameTerms / size,
+                    (double) statistics.descriptionTerms / size, term -> frequencies.getOrDefault(term, 0));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void apply(Integer id, Document document) {
+        synchronized (writes) {
+            lock.writeLock().lock();
+            try {
+                statistics.remove(id);
+                if (document != null)
+                    statistics.put(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * The distinct terms and field lengths of each item, which removing it takes back out of the totals.
+     */
+    private static class Statistics {
+        final Map<Integer, Entry> entries = new HashMap<>();
+        final Map<String, Integer> frequencies = new HashMap<>();
+        long nameTerms;
+        long descriptionTerms;
+
+        void put(Document document) {
+            var terms = document.terms().toArray(String[]::new);
+            entries.put(document.id, new Entry(terms, document.nameTerms.length, document.descriptionTerms.length));
+            for (String term : terms)
+                frequencies.merge(term, 1, Integer::sum);
+            nameTerms += document.nameTerms.length;
+            descriptionTerms += document.descriptionTerms.length;
+        }
+
+        void remove(Integer id) {
+            var entry = entries.remove(id);
+            if (entry == null) return;
+            for (String term : entry.terms)
+                frequencies.computeIfPresent(term, (key, count) -> count == 1 ? null : count - 1);
+            nameTerms -= entry.nameLength;
+            descriptionTerms -= entry.descriptionLength;
+        }
+    }
+
+    private static class Entry {
+        final String[] terms;
+        final int nameLength;
+        final int descriptionLength;
+
+        Entry(String[] terms, int nameLength, int descriptionLength) {
+            this.terms = terms;
+            this.nameLength = nameLength;
+            this.descriptionLength = descriptionLength;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.utils.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * PostgreSQL full-text search over the generated {@code items.search_vector} column and its GIN
+ * index. The text is parsed with {@code websearch_to_tsquery}, so quoted phrases, {@code or} and
+ * {@code -word} work. For relevance the database orders the matches by {@code ts_rank}, with names
+ * weighted above descriptions, and the best {@value ItemSearch#RANK_CANDIDATES} of them, or as many
+ * as the page reaches, are scored again with {@link CorpusRanking}.
+ * Words are stemmed by PostgreSQL's {@code russian} configuration, Russian and English alike, so
+ * inflected forms match, but only whole words do, unlike the substring search.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "fulltext")
+public class FullTextItemSearch implements ItemSearch {
+    private final ItemRepository itemRepository;
+    private final CorpusRanking corpusRanking;
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        if (pageable == null)
+            return itemRepository.searchFullText(text, Pageable.unpaged());
+        return itemRepository.searchFullText(text, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    @Override
+    public List<Item> rank(String text, Pageable pageable) {
+        var candidates = pageable == null ? Pageable.unpaged()
+                : PageRequest.ofSize((int) Math.max(RANK_CANDIDATES, pageable.getOffset() + pageable.getPageSize()));
+        return corpusRanking.rank(itemRepository.searchFullTextRanked(text, candidates), text, pageable);
+    }
+
+    @Override
+    public List<Item> searchFree(String text, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (pageable == null)
+            return itemRepository.searchFullTextFree(text, from, to, Pageable.unpaged());
+        return itemRepository.searchFullTextFree(text, from, to,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    @Override
+    public List<ItemMatch> match(String text, SearchSort sort, boolean fuzzy, SearchFilter filter) {
+        if (fuzzy)
+            return ItemSearch.super.match(text, sort, true, filter);
+        List<Object[]> rows;
+        if (filter.hasPeriod())
+            rows = itemRepository.matchFullTextFree(text, filter.getOwnerId(), filter.getAnswersRequest(),
+                    filter.getAvailableFrom(), filter.getAvailableTo());
+        else if (sort == SearchSort.RELEVANCE)
+            rows = itemRepository.matchFullTextRanked(text, filter.getOwnerId(), filter.getAnswersRequest());
+        else
+            rows = itemRepository.matchFullText(text, filter.getOwnerId(), filter.getAnswersRequest());
+        var matches = rows.stream().map(ItemMapper::mapToItemMatch).collect(toList());
+        if (sort == SearchSort.RELEVANCE && !filter.hasPeriod())
+            return corpusRanking.rank(matches, text, RANK_CANDIDATES);
+        return matches;
+    }
+
+    @Override
+    public Slice<Item> searchAfter(String text, Cursor cursor, Pageable pageable) {
+        var after = cursor == null ? 0 : cursor.getId();
+        return ItemSlices.of(itemRepository.searchFullTextAfter(text, after, ItemSlices.limit(pageable)), pageable);
+    }
+
+    @Override
+    public void saved(Item item) {
+        corpusRanking.saved(item);
+    }
+
+    @Override
+    public void removed(Collection<Integer> itemIds) {
+        corpusRanking.removed(itemIds);
+    }
+}
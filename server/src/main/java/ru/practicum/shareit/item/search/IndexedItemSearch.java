@@ -0,0 +1,210 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toList;
+import static ru.practicum.shareit.booking.model.BookingStatus.TAKING;
+
+/**
+ * Serves the substring search from an {@link InvertedIndex} of the available items instead of the
+ * database. The index is loaded once the application is ready and follows saved items after their
+ * transactions commit; it lives in this process only, so every node has to be the only writer or
+ * tolerate missing other nodes' changes until restart.
+ * <p>
+ * Found items are detached copies built from the index, carrying their owner and request as bare ids.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "index")
+public class IndexedItemSearch implements ItemSearch {
+    private static final int LOAD_BATCH = 10_000;
+    private static final int TAKEN_BATCH = 1_000;
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final Object writes = new Object();
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var started = System.currentTimeMillis();
+        synchronized (writes) {
+            var rebuilt = new InvertedIndex();
+            var after = 0;
+            while (true) {
+                var views = itemRepository.findSearchViews(after, PageRequest.ofSize(LOAD_BATCH));
+                if (views.isEmpty()) break;
+                views.forEach(view -> rebuilt.put(Document.of(view)));
+                after = views.get(views.size() - 1).getId();
+            }
+            index = rebuilt;
+        }
+        log.info("Indexed {} available items in {} ms", index.size(), System.currentTimeMillis() - started);
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        if (pageable == null)
+            return toItems(index.find(text, 0, 0, Integer.MAX_VALUE));
+        return toItems(index.find(text, 0, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    @Override
+    public List<Item> rank(String text, Pageable pageable) {
+        if (pageable == null)
+            return toItems(index.rank(text, 0, Integer.MAX_VALUE));
+        return toItems(index.rank(text, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    @Override
+    public List<Item> searchFuzzy(String text, SearchSort sort, Pageable pageable) {
+        var skip = pageable == null ? 0 : pageable.getOffset();
+        var limit = pageable == null ? Integer.MAX_VALUE : pageable.getPageSize();
+        return toItems(findFuzzy(text, sort, skip, limit));
+    }
+
+    @Override
+    public Optional<String> correct(String text) {
+        return index.correct(text);
+    }
+
+    /**
+     * Leaves out the matches taken during the period as found by one range query per {@value #TAKEN_BATCH} of
+     * them, in id order, until the page is full.
+     */
+    @Override
+    public List<Item> searchFree(String text, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        var skip = pageable == null ? 0 : pageable.getOffset();
+        var limit = pageable == null ? Integer.MAX_VALUE : pageable.getPageSize();
+        return toItems(findFree(text, from, to, skip, limit));
+    }
+
+    /**
+     * Takes the matches straight from the documents of the index, without building an item for each.
+     */
+    @Override
+    public List<ItemMatch> match(String text, SearchSort sort, boolean fuzzy, SearchFilter filter) {
+        List<Document> documents;
+        if (filter.hasPeriod())
+            documents = findFree(text, filter.getAvailableFrom(), filter.getAvailableTo(), 0, Integer.MAX_VALUE);
+        else if (fuzzy)
+            documents = findFuzzy(text, sort, 0, Integer.MAX_VALUE);
+        else
+            documents = sort == SearchSort.RELEVANCE
+                    ? index.rank(text, 0, Integer.MAX_VALUE)
+                    : index.find(text, 0, 0, Integer.MAX_VALUE);
+        return documents.stream()
+                .map(document -> new ItemMatch(document.id, document.ownerId, document.requestId))
+                .collect(toList());
+    }
+
+    @Override
+    public Slice<Item> searchAfter(String text, Cursor cursor, Pageable pageable) {
+        var after = cursor == null ? 0 : cursor.getId();
+        return ItemSlices.of(toItems(index.find(text, after, 0, ItemSlices.limit(pageable))), pageable);
+    }
+
+    @Override
+    public void saved(Item item) {
+        var id = item.getId();
+        if (Boolean.TRUE.equals(item.getAvailable())) {
+            var document = Document.of(item);
+            afterCommit(() -> apply(index -> index.put(document)));
+        } else {
+            afterCommit(() -> apply(index -> index.remove(id)));
+        }
+    }
+
+    @Override
+    public void removed(Collection<Integer> itemIds) {
+        var ids = List.copyOf(itemIds);
+        afterCommit(() -> apply(index -> ids.forEach(index::remove)));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        synchronized (writes) {
+            change.accept(index);
+        }
+    }
+
+    private List<Document> findFuzzy(String text, SearchSort sort, long skip, int limit) {
+        return sort == SearchSort.RELEVANCE
+                ? index.rankFuzzy(text, skip, limit)
+                : index.findFuzzy(text, skip, limit);
+    }
+
+    private List<Document> findFree(String text, LocalDateTime from, LocalDateTime to, long skip, int limit) {
+        var result = new ArrayList<Document>();
+        var after = 0;
+        while (result.size() < limit) {
+            var batch = index.find(text, after, 0, TAKEN_BATCH);
+            if (batch.isEmpty()) break;
+            var ids = batch.stream().map(document -> document.id).collect(toList());
+            var taken = new HashSet<>(bookingRepository.findItemIdsTakenBetween(ids, TAKING, from, to));
+            for (Document document : batch) {
+                if (taken.contains(document.id)) continue;
+                if (skip > 0)
+                    skip--;
+                else if (result.size() < limit)
+                    result.add(document);
+            }
+            after = batch.get(batch.size() - 1).id;
+        }
+        return result;
+    }
+
+    private static List<Item> toItems(List<Document> documents) {
+        return documents.stream()
+                .map(document -> Item.builder()
+                        .id(document.id)
+                        .name(document.name)
+                        .description(document.description)
+                        .available(true)
+                        .owner(User.builder().id(document.ownerId).build())
+                        .request(document.requestId == null
+                                ? null
+                                : ItemRequest.builder().id(document.requestId).build())
+                        .build())
+                .collect(toList());
+    }
+}
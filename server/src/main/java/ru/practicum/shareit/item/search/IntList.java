@@ -0,0 +1,101 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+
+/**
+ * A posting list: ascending distinct ids in a growable {@code int[]}. Item ids mostly grow, so
+ * adding usually appends.
+ */
+class IntList {
+    private int[] values = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(int value) {
+        if (size > 0 && values[size - 1] < value) {
+            grow();
+            values[size++] = value;
+            return;
+        }
+        var index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) return;
+        index = -index - 1;
+        grow();
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    void remove(int value) {
+        var index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) return;
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Index of the first value greater than {@code value}.
+     */
+    int indexAfter(int value) {
+        var index = Arrays.binarySearch(values, 0, size, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Values present in both lists, walking the shorter one and binary-searching the rest of the longer.
+     */
+    static IntList intersect(IntList a, IntList b) {
+        if (a.size > b.size) return intersect(b, a);
+        var result = new IntList();
+        var from = 0;
+        for (int i = 0; i < a.size && from < b.size; i++) {
+            var index = Arrays.binarySearch(b.values, from, b.size, a.values[i]);
+            if (index >= 0) {
+                result.add(a.values[i]);
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Values present in either list.
+     */
+    static IntList union(IntList a, IntList b) {
+        var result = new IntList();
+        result.values = new int[a.size + b.size + 1];
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            int value;
+            if (j == b.size || i < a.size && a.values[i] < b.values[j])
+                value = a.values[i++];
+            else if (i == a.size || b.values[j] < a.values[i])
+                value = b.values[j++];
+            else {
+                value = a.values[i++];
+                j++;
+            }
+            result.values[result.size++] = value;
+        }
+        return result;
+    }
+
+    private void grow() {
+        if (size == values.length)
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+    }
+}
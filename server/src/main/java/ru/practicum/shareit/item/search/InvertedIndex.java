@@ -0,0 +1,373 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.dto.ItemSearchView;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Item search over names and descriptions held in memory. A document matches a query if it
+ * contains the query text, like {@code LIKE '%text%'} with "ё" and "е" alike, or if it has every
+ * term the {@link Analyzer} finds in the query, so inflected forms of the words match too.
+ * <p>
+ * Substrings are looked up by trigrams: every trigram of every run of letters and digits in a
+ * document is a key pointing to the ids of the documents that contain it. A document that contains
+ * the query has to contain all trigrams of the query's runs, so intersecting their posting lists
+ * yields the candidates, each then checked for the whole text; queries without a run of three
+ * characters check every document. Terms have posting lists of their own, which together with
+ * field lengths also feed {@link Bm25}.
+ * <p>
+ * Fuzzy queries also match documents having, for every word of the query, the term of some word
+ * of the {@link WordDictionary} within a few edits of it.
+ */
+class InvertedIndex {
+    private static final int GRAM = 3;
+
+    private final Map<String, IntList> grams = new HashMap<>();
+    private final Map<String, IntList> terms = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final WordDictionary words = new WordDictionary();
+    private final IntList ids = new IntList();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nameLength;
+    private long descriptionLength;
+
+    void put(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id);
+            documents.put(document.id, document);
+            ids.add(document.id);
+            nameLength += document.nameTerms.length;
+            descriptionLength += document.descriptionTerms.length;
+            for (String term : document.terms())
+                terms.computeIfAbsent(term, key -> new IntList()).add(document.id);
+            for (String gram : document.grams())
+                grams.computeIfAbsent(gram, key -> new IntList()).add(document.id);
+            for (String word : document.words())
+                words.add(word);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Matching documents in id order: those with ids above {@code after}, less the first {@code skip}.
+     */
+    List<Document> find(String text, int after, long skip, int limit) {
+        lock.readLock().lock();
+        try {
+            return find(new Query(text, null), after, skip, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching the text or the text with its words misspelt, in id order, less the first {@code skip}.
+     */
+    List<Document> findFuzzy(String text, long skip, int limit) {
+        lock.readLock().lock();
+        try {
+            return find(new Query(text, words), 0, skip, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Matching documents by BM25 relevance over the whole index, less the first {@code skip}.
+     */
+    List<Document> rank(String text, long skip, int limit) {
+        lock.readLock().lock();
+        try {
+            return rank(new Query(text, null), skip, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching the text or the text with its words misspelt, by BM25 relevance to the
+     * terms of the text and of the words taken for its misspellings, less the first {@code skip}.
+     */
+    List<Document> rankFuzzy(String text, long skip, int limit) {
+        lock.readLock().lock();
+        try {
+            return rank(new Query(text, words), skip, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The text with every unknown word replaced by the most frequent known word closest to it, if any is.
+     */
+    Optional<String> correct(String text) {
+        lock.readLock().lock();
+        try {
+            var changed = false;
+            var corrected = new ArrayList<String>();
+            for (String word : Tokenizer.tokens(Analyzer.normalize(text))) {
+                var correction = words.correct(word);
+                changed |= correction.isPresent();
+                corrected.add(correction.orElse(word));
+            }
+            return changed ? Optional.of(String.join(" ", corrected)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Document> find(Query query, int after, long skip, int limit) {
+        var candidates = candidates(query);
+        var result = new ArrayList<Document>();
+        for (int i = candidates.indexAfter(after); i < candidates.size() && result.size() < limit; i++) {
+            var document = documents.get(candidates.get(i));
+            if (!query.matches(document)) continue;
+            if (skip > 0)
+                skip--;
+            else
+                result.add(document);
+        }
+        return result;
+    }
+
+    private List<Document> rank(Query query, long skip, int limit) {
+        var candidates = candidates(query);
+        Iterable<Document> matches = () -> IntStream.range(0, candidates.size())
+                .mapToObj(i -> documents.get(candidates.get(i)))
+                .filter(query::matches)
+                .iterator();
+        var size = Math.max(documents.size(), 1);
+        var bm25 = new Bm25(documents.size(), (double) nameLength / size, (double) descriptionLength / size,
+                term -> {
+                    var postings = terms.get(term);
+                    return postings == null ? 0 : postings.size();
+                });
+        return bm25.top(matches, query.scored(), skip, limit);
+    }
+
+    /**
+     * Documents that may contain the text, plus those having all of its terms.
+     */
+    private IntList candidates(Query query) {
+        var result = intersect(query.grams, grams, ids);
+        if (!query.terms.isEmpty())
+            result = IntList.union(result, intersect(query.terms, terms, new IntList()));
+        if (query.alternatives != null && !query.alternatives.isEmpty())
+            result = IntList.union(result, intersectUnions(query.alternatives));
+        return result;
+    }
+
+    /**
+     * Documents having some term of every group.
+     */
+    private IntList intersectUnions(List<Set<String>> groups) {
+        IntList result = null;
+        for (Set<String> group : groups) {
+            var union = new IntList();
+            for (String term : group) {
+                var list = terms.get(term);
+                if (list != null)
+                    union = IntList.union(union, list);
+            }
+            result = result == null ? union : IntList.intersect(result, union);
+            if (result.isEmpty()) break;
+        }
+        return result;
+    }
+
+    private static IntList intersect(Collection<String> keys, Map<String, IntList> postings, IntList none) {
+        var lists = new ArrayList<IntList>();
+        for (String key : keys) {
+            var list = postings.get(key);
+            if (list == null) return new IntList();
+            lists.add(list);
+        }
+        if (lists.isEmpty()) return none;
+        lists.sort(Comparator.comparingInt(IntList::size));
+        var result = lists.get(0);
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++)
+            result = IntList.intersect(result, lists.get(i));
+        return result;
+    }
+
+    private void removeLocked(int id) {
+        var document = documents.remove(id);
+        if (document == null) return;
+        ids.remove(id);
+        nameLength -= document.nameTerms.length;
+        descriptionLength -= document.descriptionTerms.length;
+        for (String term : document.terms())
+            remove(terms, term, id);
+        for (String gram : document.grams())
+            remove(grams, gram, id);
+        for (String word : document.words())
+            words.remove(word);
+    }
+
+    private static void remove(Map<String, IntList> postings, String key, int id) {
+        var list = postings.get(key);
+        if (list == null) return;
+        list.remove(id);
+        if (list.isEmpty())
+            postings.remove(key);
+    }
+
+    static Set<String> grams(String text) {
+        var grams = new HashSet<String>();
+        for (String token : Tokenizer.tokens(text))
+            for (int i = 0; i + GRAM <= token.length(); i++)
+                grams.add(token.substring(i, i + GRAM));
+        return grams;
+    }
+
+    private static class Query {
+        final String text;
+        final Set<String> grams;
+        final Set<String> terms;
+        final List<Set<String>> alternatives;
+
+        /**
+         * A query also matching misspellings of its words if a dictionary to look them up in is given.
+         */
+        Query(String text, WordDictionary dictionary) {
+            this.text = Analyzer.normalize(text);
+            this.grams = grams(this.text);
+            this.terms = new HashSet<>(Analyzer.terms(text));
+            this.alternatives = dictionary == null ? null : alternatives(this.text, dictionary);
+        }
+
+        /**
+         * For every word that is not a stop-word, its term and the terms of the similar words.
+         */
+        private static List<Set<String>> alternatives(String text, WordDictionary dictionary) {
+            var alternatives = new ArrayList<Set<String>>();
+            for (String word : Tokenizer.tokens(text)) {
+                var group = new HashSet<>(Analyzer.terms(word));
+                if (group.isEmpty()) continue;
+                var edits = WordDictionary.edits(word.length());
+                if (edits > 0)
+                    dictionary.similar(word, edits, (similar, frequency) -> group.addAll(Analyzer.terms(similar)));
+                alternatives.add(group);
+            }
+            return alternatives;
+        }
+
+        boolean matches(Document document) {
+            return document.contains(text) || !terms.isEmpty() && document.hasTerms(terms)
+                    || alternatives != null && !alternatives.isEmpty() && document.hasAnyOf(alternatives);
+        }
+
+        /**
+         * Terms to score the matches by.
+         */
+        Collection<String> scored() {
+            if (alternatives == null) return terms;
+            var scored = new LinkedHashSet<>(terms);
+            alternatives.forEach(scored::addAll);
+            return scored;
+        }
+    }
+
+    static class Document {
+        final int id;
+        final String name;
+        final String description;
+        final Integer ownerId;
+        final Integer requestId;
+        final String[] nameTerms;
+        final String[] descriptionTerms;
+        private final String lowerName;
+        private final String lowerDescription;
+
+        Document(int id, String name, String description, Integer ownerId, Integer requestId) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.ownerId = ownerId;
+            this.requestId = requestId;
+            this.lowerName = Analyzer.normalize(name);
+            this.lowerDescription = Analyzer.normalize(description);
+            this.nameTerms = Analyzer.terms(name).toArray(String[]::new);
+            this.descriptionTerms = Analyzer.terms(description).toArray(String[]::new);
+        }
+
+        static Document of(ItemSearchView view) {
+            return new Document(view.getId(), view.getName(), view.getDescription(), view.getOwnerId(),
+                    view.getRequestId());
+        }
+
+        static Document of(Item item) {
+            return new Document(item.getId(), item.getName(), item.getDescription(),
+                    item.getOwner() == null ? null : item.getOwner().getId(),
+                    item.getRequest() == null ? null : item.getRequest().getId());
+        }
+
+        boolean contains(String text) {
+            return lowerName.contains(text) || lowerDescription.contains(text);
+        }
+
+        boolean hasTerms(Set<String> terms) {
+            var found = new HashSet<String>();
+            for (String term : nameTerms)
+                if (terms.contains(term)) found.add(term);
+            for (String term : descriptionTerms)
+                if (terms.contains(term)) found.add(term);
+            return found.size() == terms.size();
+        }
+
+        boolean hasAnyOf(List<Set<String>> groups) {
+            var terms = terms();
+            for (Set<String> group : groups)
+                if (Collections.disjoint(terms, group)) return false;
+            return true;
+        }
+
+        Set<String> grams() {
+            var grams = InvertedIndex.grams(lowerName);
+            grams.addAll(InvertedIndex.grams(lowerDescription));
+            return grams;
+        }
+
+        /**
+         * Distinct words of the name and the description, as the {@link Tokenizer} splits them.
+         */
+        Set<String> words() {
+            var words = new HashSet<>(Tokenizer.tokens(lowerName));
+            words.addAll(Tokenizer.tokens(lowerDescription));
+            return words;
+        }
+
+        /**
+         * Distinct terms of the name and the description.
+         */
+        Set<String> terms() {
+            var terms = new HashSet<String>();
+            Collections.addAll(terms, nameTerms);
+            Collections.addAll(terms, descriptionTerms);
+            return terms;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.FacetCountDto;
+import ru.practicum.shareit.item.dto.ItemFacetsDto;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.utils.TopK;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static ru.practicum.shareit.booking.model.BookingStatus.TAKING;
+
+/**
+ * Filters and facet counts over the whole set of items matching a search, known by their ids, owners and requests
+ * alone. The matches are read once into their owners and into bitsets indexed by their position: one for the items
+ * answering a request and one per availability window for the items free in it, the latter cleared from the bookings
+ * of the matches fetched in one range query per {@value #BATCH} items. A filter intersects the bitsets it selects,
+ * and a facet is counted in one pass over the matches passing the filters on the other facets, so that choosing a
+ * value of a facet still shows the counts of its alternatives.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemFacets {
+    static final int TOP_OWNERS = 10;
+    private static final int BATCH = 1_000;
+
+    private final BookingRepository bookingRepository;
+
+    /**
+     * The matches passing the filter, in their order, less the first {@code skip}.
+     */
+    public List<ItemMatch> filter(List<ItemMatch> matches, SearchFilter filter, long skip, int limit) {
+        var windows = filter.getWindow() == null
+                ? EnumSet.noneOf(AvailabilityWindow.class)
+                : EnumSet.of(filter.getWindow());
+        var bits = new Bits(matches, windows);
+        var passing = bits.passing(filter, null);
+        var result = new ArrayList<ItemMatch>();
+        for (int i = passing.nextSetBit(0); i >= 0 && result.size() < limit; i = passing.nextSetBit(i + 1)) {
+            if (skip > 0)
+                skip--;
+            else
+                result.add(matches.get(i));
+        }
+        return result;
+    }
+
+    public ItemFacetsDto count(List<ItemMatch> matches, SearchFilter filter) {
+        var bits = new Bits(matches, EnumSet.allOf(AvailabilityWindow.class));
+        return ItemFacetsDto.builder()
+                .total(bits.passing(filter, null).cardinality())
+                .owner(bits.owners(filter))
+                .request(bits.requests(filter))
+                .window(bits.windows(filter))
+                .build();
+    }
+
+    private enum Facet {
+        OWNER,
+        REQUEST,
+        WINDOW
+    }
+
+    private class Bits {
+        private final int size;
+        private final int[] owners;
+        private final BitSet answers;
+        private final Map<AvailabilityWindow, BitSet> free = new EnumMap<>(AvailabilityWindow.class);
+
+        Bits(List<ItemMatch> matches, Set<AvailabilityWindow> windows) {
+            size = matches.size();
+            owners = new int[size];
+            answers = new BitSet(size);
+            var positions = new HashMap<Integer, Integer>();
+            for (int i = 0; i < size; i++) {
+                var match = matches.get(i);
+                owners[i] = match.getOwnerId() == null ? 0 : match.getOwnerId();
+                if (match.getRequestId() != null)
+                    answers.set(i);
+                positions.put(match.getId(), i);
+            }
+            if (!windows.isEmpty())
+                clearTaken(positions, windows);
+        }
+
+        private void clearTaken(Map<Integer, Integer> positions, Set<AvailabilityWindow> windows) {
+            var now = LocalDateTime.now();
+            var to = now;
+            for (AvailabilityWindow window : windows) {
+                free.put(window, all());
+                if (window.end(now).isAfter(to))
+                    to = window.end(now);
+            }
+            var ids = new ArrayList<>(positions.keySet());
+            for (int from = 0; from < ids.size(); from += BATCH) {
+                var batch = ids.subList(from, Math.min(from + BATCH, ids.size()));
+                for (var interval : bookingRepository.findIntervalsByItemIds(batch, TAKING, now, to))
+                    for (AvailabilityWindow window : windows)
+                        if (window.overlaps(interval.getStart(), interval.getEnd(), now))
+                            free.get(window).clear(positions.get(interval.getItemId()));
+            }
+        }
+
+        /**
+         * Positions of the matches passing the filters on every facet but the excepted one.
+         */
+        BitSet passing(SearchFilter filter, Facet except) {
+            var result = all();
+            if (filter.getOwnerId() != null && except != Facet.OWNER)
+                for (int i = 0; i < size; i++)
+                    if (owners[i] != filter.getOwnerId()) result.clear(i);
+            if (filter.getAnswersRequest() != null && except != Facet.REQUEST) {
+                if (filter.getAnswersRequest())
+                    result.and(answers);
+                else
+                    result.andNot(answers);
+            }
+            if (filter.getWindow() != null && except != Facet.WINDOW)
+                result.and(free.get(filter.getWindow()));
+            return result;
+        }
+
+        /**
+         * The owners with the most matches, and the owner filtered by even if not among them.
+         */
+        List<FacetCountDto> owners(SearchFilter filter) {
+            var passing = passing(filter, Facet.OWNER);
+            var counts = new HashMap<Integer, Integer>();
+            for (int i = passing.nextSetBit(0); i >= 0; i = passing.nextSetBit(i + 1))
+                counts.merge(owners[i], 1, Integer::sum);
+            var top = new TopK<Map.Entry<Integer, Integer>>(TOP_OWNERS, Map.Entry.<Integer, Integer>comparingByValue()
+                    .reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            counts.entrySet().forEach(top::add);
+            var result = new ArrayList<FacetCountDto>();
+            for (var entry : top.toList())
+                result.add(new FacetCountDto(String.valueOf(entry.getKey()), entry.getValue()));
+            var selected = filter.getOwnerId();
+            if (selected != null && result.stream().noneMatch(count -> count.getValue().equals(selected.toString())))
+                result.add(new FacetCountDto(selected.toString(), counts.getOrDefault(selected, 0)));
+            return result;
+        }
+
+        List<FacetCountDto> requests(SearchFilter filter) {
+            var passing = passing(filter, Facet.REQUEST);
+            var total = passing.cardinality();
+            passing.and(answers);
+            var answering = passing.cardinality();
+            return List.of(new FacetCountDto("true", answering), new FacetCountDto("false", total - answering));
+        }
+
+        List<FacetCountDto> windows(SearchFilter filter) {
+            var passing = passing(filter, Facet.WINDOW);
+            var result = new ArrayList<FacetCountDto>();
+            for (var entry : free.entrySet()) {
+                var inWindow = (BitSet) passing.clone();
+                inWindow.and(entry.getValue());
+                result.add(new FacetCountDto(entry.getKey().name().toLowerCase(Locale.ROOT), inWindow.cardinality()));
+            }
+            return result;
+        }
+
+        private BitSet all() {
+            var bits = new BitSet(size);
+            bits.set(0, size);
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.utils.Cursor;
+
+import javax.validation.ValidationException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Finds available items by text. The implementation is chosen with {@code shareit.item.search}.
+ */
+public interface ItemSearch {
+    /**
+     * How many of the matches a database ranks best are scored again with {@link CorpusRanking}.
+     */
+    int RANK_CANDIDATES = 1_000;
+
+    /**
+     * Matching items in id order, all of them when {@code pageable} is null.
+     */
+    List<Item> search(String text, @Nullable Pageable pageable);
+
+    /**
+     * Matching items by relevance to the text, best first, all of them when {@code pageable} is null.
+     */
+    List<Item> rank(String text, @Nullable Pageable pageable);
+
+    /**
+     * Matching items without approved or waiting bookings overlapping {@code [from, to)}, in id order,
+     * all of them when {@code pageable} is null.
+     */
+    List<Item> searchFree(String text, LocalDateTime from, LocalDateTime to, @Nullable Pageable pageable);
+
+    /**
+     * Matching items in id order, starting after the cursor.
+     */
+    Slice<Item> searchAfter(String text, @Nullable Cursor cursor, Pageable pageable);
+
+    /**
+     * Items matching the text or, word by word, its misspellings within a few edits, in the given
+     * order. Only searches keeping a dictionary of the words of the items support it.
+     */
+    default List<Item> searchFuzzy(String text, SearchSort sort, @Nullable Pageable pageable) {
+        throw new ValidationException("Fuzzy search needs shareit.item.search=index");
+    }
+
+    /**
+     * The ids, owners and requests of all the matches free during the period of the filter, if it has one: the ones
+     * found by {@link #searchFree}, {@link #searchFuzzy} if fuzzy, or else {@link #rank} or {@link #search} as the
+     * sort asks, in their order. Matches failing the owner and request criteria of the filter may be left in. By
+     * default they are taken from the found items. Searches reading the database override it to read only these
+     * columns and leave the failing matches out in the query; the index search takes them from its documents.
+     */
+    default List<ItemMatch> match(String text, SearchSort sort, boolean fuzzy, SearchFilter filter) {
+        List<Item> items;
+        if (filter.hasPeriod())
+            items = searchFree(text, filter.getAvailableFrom(), filter.getAvailableTo(), null);
+        else if (fuzzy)
+            items = searchFuzzy(text, sort, null);
+        else
+            items = sort == SearchSort.RELEVANCE ? rank(text, null) : search(text, null);
+        return items.stream().map(ItemMapper::mapToItemMatch).collect(toList());
+    }
+
+    /**
+     * The text with its misspelt words corrected, if the search knows of words to correct them to.
+     */
+    default Optional<String> correct(String text) {
+        return Optional.empty();
+    }
+
+    /**
+     * Called with every item created or changed, inside the transaction that writes it.
+     */
+    default void saved(Item item) {
+    }
+
+    /**
+     * Called with the ids of items about to be deleted, inside the transaction that deletes them.
+     */
+    default void removed(Collection<Integer> itemIds) {
+    }
+}
@@ -0,0 +1,171 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Pages of search results by lowercased text, order and page, in a Caffeine cache: W-TinyLFU
+ * eviction, expiry a fixed time after each page is written and hit, miss and eviction counts in
+ * the {@code cache.*} metrics tagged {@code cache=itemSearch}.
+ * <p>
+ * Changed items evict only the pages they could appear on. Each cached text is filed under its
+ * {@link Analyzer} terms and one trigram of its own, or an empty key if it has no trigram; an item is
+ * looked up under its terms, its trigrams and the empty key, and the texts found there are evicted
+ * if the item contains them or any of their terms. That over-approximates every search strategy, including
+ * {@code fulltext}'s {@code or}, and is checked for the item both before and after the change. Texts with the
+ * {@code LIKE} wildcards {@code %} and {@code _} or an escape {@code \} match more than they contain under
+ * {@code like} and {@code trigram}, so they are never cached.
+ */
+@Component
+@EnableConfigurationProperties(SearchCacheProperties.class)
+public class ItemSearchCache {
+    private static final String NO_KEY = "";
+    private static final String AFTER = "AFTER";
+    private static final String WILDCARDS = "%_\\";
+    static final String NAME = "itemSearch";
+
+    private final boolean enabled;
+    private final Cache<Key, Object> cache;
+    private final Map<String, Set<Key>> keysByTerm = new ConcurrentHashMap<>();
+
+    public ItemSearchCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        enabled = properties.isEnabled();
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .executor(Runnable::run)
+                .removalListener((Key key, Object value, RemovalCause cause) -> {
+                    if (key != null) file(key, false);
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    public <T> T page(SearchSort sort, String text, Integer from, Integer size, Supplier<T> search) {
+        return get(new Key(sort.name(), text.toLowerCase(Locale.ROOT), from, size, null), search);
+    }
+
+    public <T> T slice(String text, String cursor, Integer size, Supplier<T> search) {
+        return get(new Key(AFTER, text.toLowerCase(Locale.ROOT), null, size, cursor), search);
+    }
+
+    /**
+     * Evicts the pages the item, as it is now, could appear on once the current transaction ends.
+     * Call it before and after changing an item.
+     */
+    public void evict(Item item) {
+        if (!enabled || !Boolean.TRUE.equals(item.getAvailable())) return;
+        var document = Document.of(item);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(document);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(document);
+            }
+        });
+    }
+
+    /**
+     * The key is filed before the search runs, so that an item committed meanwhile finds and invalidates it,
+     * and unfiled again if the search leaves nothing to cache, since no removal will then do it.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> search) {
+        if (!enabled || hasWildcards(key.getText())) return search.get();
+        return (T) cache.get(key, ignored -> {
+            file(key, true);
+            T result = null;
+            try {
+                result = search.get();
+                return result;
+            } finally {
+                if (result == null) file(key, false);
+            }
+        });
+    }
+
+    private static boolean hasWildcards(String text) {
+        for (int i = 0; i < text.length(); i++)
+            if (WILDCARDS.indexOf(text.charAt(i)) >= 0) return true;
+        return false;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    int filedKeys() {
+        return keysByTerm.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void evict(Document document) {
+        var keys = new HashSet<Key>(keysByTerm.getOrDefault(NO_KEY, Set.of()));
+        for (String gram : document.grams())
+            keys.addAll(keysByTerm.getOrDefault(gram, Set.of()));
+        for (String term : document.terms())
+            keys.addAll(keysByTerm.getOrDefault(term, Set.of()));
+        for (Key key : keys)
+            if (key.matches(document))
+                cache.invalidate(key);
+    }
+
+    private void file(Key key, boolean add) {
+        for (String term : key.filedUnder()) {
+            if (add)
+                keysByTerm.computeIfAbsent(term, ignored -> ConcurrentHashMap.newKeySet()).add(key);
+            else
+                keysByTerm.computeIfPresent(term, (ignored, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+        }
+    }
+
+    @Value
+    private static class Key {
+        String order;
+        String text;
+        Integer from;
+        Integer size;
+        String cursor;
+
+        /**
+         * The terms of the text and one of its trigrams; without a trigram, the key for texts
+         * matched by substring every item has to be checked against.
+         */
+        Set<String> filedUnder() {
+            var terms = new HashSet<>(Analyzer.terms(text));
+            terms.add(InvertedIndex.grams(Analyzer.normalize(text)).stream().findFirst().orElse(NO_KEY));
+            return terms;
+        }
+
+        boolean matches(Document document) {
+            if (document.contains(Analyzer.normalize(text))) return true;
+            for (String term : Analyzer.terms(text))
+                if (document.hasTerms(Set.of(term))) return true;
+            return false;
+        }
+    }
+}
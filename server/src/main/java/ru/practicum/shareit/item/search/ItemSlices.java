@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Slices of native keyset queries, which fetch one row more than the page to tell if there is a next one.
+ */
+class ItemSlices {
+    private ItemSlices() {
+    }
+
+    static int limit(Pageable pageable) {
+        return pageable.getPageSize() + 1;
+    }
+
+    static Slice<Item> of(List<Item> rows, Pageable pageable) {
+        var size = pageable.getPageSize();
+        var hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Type-ahead over the names of the available items, from a {@link SuggestionTrie} that is loaded
+ * once the application is ready and follows saved items after their transactions commit. Names
+ * shared by more available items come first. Like the {@code index} search it sees only the
+ * changes made by this process.
+ */
+@Slf4j
+@Component
+public class ItemSuggestions {
+    private static final int LOAD_BATCH = 10_000;
+
+    private final ItemRepository itemRepository;
+    private final int maxSize;
+    private final Object writes = new Object();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private SuggestionTrie trie;
+    private Map<Integer, String> names = new HashMap<>();
+
+    public ItemSuggestions(ItemRepository itemRepository, @Value("${shareit.item.suggest.max-size:10}") int maxSize) {
+        this.itemRepository = itemRepository;
+        this.maxSize = maxSize;
+        this.trie = new SuggestionTrie(maxSize);
+    }
+
+    /**
+     * Loads the trie anew, adding each distinct name once with the number of items carrying it. Changes committed
+     * meanwhile wait for the load, so that none lands in the trie being replaced; reads go on against it until the
+     * swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var started = System.currentTimeMillis();
+        var rebuilt = new SuggestionTrie(maxSize);
+        synchronized (writes) {
+            var rebuiltNames = new HashMap<Integer, String>();
+            var counts = new HashMap<String, Integer>();
+            var after = 0;
+            while (true) {
+                var views = itemRepository.findSearchViews(after, PageRequest.ofSize(LOAD_BATCH));
+                if (views.isEmpty()) break;
+                views.forEach(view -> {
+                    counts.merge(view.getName(), 1, Integer::sum);
+                    rebuiltNames.put(view.getId(), view.getName());
+                });
+                after = views.get(views.size() - 1).getId();
+            }
+            counts.forEach(rebuilt::add);
+            lock.writeLock().lock();
+            try {
+                trie = rebuilt;
+                names = rebuiltNames;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Loaded {} item names for suggestions in {} ms", rebuilt.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * At most {@code size} names, capped by {@code shareit.item.suggest.max-size}, that start with
+     * the prefix or have a word starting with it, case- and "ё"-insensitively.
+     */
+    public List<String> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) return List.of();
+        lock.readLock().lock();
+        try {
+            return trie.complete(prefix, Math.min(size, maxSize));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the item's current name and availability once the current transaction commits.
+     */
+    public void saved(Item item) {
+        var id = item.getId();
+        var name = Boolean.TRUE.equals(item.getAvailable()) ? item.getName() : null;
+        afterCommit(() -> apply(id, name));
+    }
+
+    /**
+     * Forgets the names of the items once the current transaction, which deletes them, commits.
+     */
+    public void removed(Collection<Integer> itemIds) {
+        var ids = List.copyOf(itemIds);
+        afterCommit(() -> ids.forEach(id -> apply(id, null)));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void apply(Integer id, String name) {
+        synchronized (writes) {
+            lock.writeLock().lock();
+            try {
+                var previous = name == null ? names.remove(id) : names.put(id, name);
+                if (previous != null)
+                    trie.remove(previous);
+                if (name != null)
+                    trie.add(name);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
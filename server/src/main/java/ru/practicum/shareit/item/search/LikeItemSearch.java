@@ -0,0 +1,77 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.utils.Cursor;
+import ru.practicum.shareit.utils.Keyset;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static ru.practicum.shareit.booking.model.BookingStatus.TAKING;
+import static org.springframework.data.jpa.domain.Specification.where;
+import static ru.practicum.shareit.item.repository.ItemSpecifications.availableWithText;
+
+/**
+ * Case-insensitive substring match on name and description. Works on any database, but scans the
+ * whole table. Relevance scores every match with {@link CorpusRanking}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "like", matchIfMissing = true)
+public class LikeItemSearch implements ItemSearch {
+    private final ItemRepository itemRepository;
+    private final CorpusRanking corpusRanking;
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        if (pageable == null)
+            return itemRepository.search(text);
+        return itemRepository.search(text, pageable).getContent();
+    }
+
+    @Override
+    public List<Item> rank(String text, Pageable pageable) {
+        return corpusRanking.rank(itemRepository.search(text), text, pageable);
+    }
+
+    @Override
+    public List<Item> searchFree(String text, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return itemRepository.searchFree(text, TAKING, from, to, pageable == null ? Pageable.unpaged() : pageable);
+    }
+
+    @Override
+    public List<ItemMatch> match(String text, SearchSort sort, boolean fuzzy, SearchFilter filter) {
+        if (filter.hasPeriod())
+            return itemRepository.matchFree(text, filter.getOwnerId(), filter.getAnswersRequest(), TAKING,
+                    filter.getAvailableFrom(), filter.getAvailableTo());
+        if (fuzzy || sort == SearchSort.RELEVANCE)
+            return ItemSearch.super.match(text, sort, fuzzy, filter);
+        return itemRepository.match(text, filter.getOwnerId(), filter.getAnswersRequest());
+    }
+
+    @Override
+    public Slice<Item> searchAfter(String text, Cursor cursor, Pageable pageable) {
+        var spec = where(availableWithText(text))
+                .and(Keyset.<Item>after(cursor, "id", ASC));
+        return itemRepository.findSlice(spec, pageable);
+    }
+
+    @Override
+    public void saved(Item item) {
+        corpusRanking.saved(item);
+    }
+
+    @Override
+    public void removed(Collection<Integer> itemIds) {
+        corpusRanking.removed(itemIds);
+    }
+}
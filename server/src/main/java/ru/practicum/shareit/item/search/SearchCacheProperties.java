@@ -0,0 +1,28 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Search result cache settings, bound from {@code shareit.item.search-cache.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.item.search-cache")
+public class SearchCacheProperties {
+    private boolean enabled = true;
+
+    /**
+     * Pages kept at most; beyond it W-TinyLFU keeps the ones asked for most often.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a page is served after it was searched. Bounds staleness that invalidation misses:
+     * relevance scores shifting as the catalog grows, and pages read while a change committed.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Value;
+
+import javax.validation.ValidationException;
+import java.time.LocalDateTime;
+
+/**
+ * Narrows search results down to one owner, to items that do or do not answer a request, to items
+ * free during a window and to items free of bookings from {@code availableFrom} to {@code availableTo}.
+ * Absent criteria let every item through.
+ */
+@Value
+public class SearchFilter {
+    public static final SearchFilter NONE = new SearchFilter(null, null, null, null, null);
+
+    Integer ownerId;
+    Boolean answersRequest;
+    AvailabilityWindow window;
+    LocalDateTime availableFrom;
+    LocalDateTime availableTo;
+
+    public static SearchFilter of(Integer ownerId, Boolean answersRequest, String window) {
+        return of(ownerId, answersRequest, window, null, null);
+    }
+
+    public static SearchFilter of(Integer ownerId, Boolean answersRequest, String window,
+                                  LocalDateTime availableFrom, LocalDateTime availableTo) {
+        if ((availableFrom == null) != (availableTo == null))
+            throw new ValidationException("available_from and available_to go together");
+        if (availableFrom != null && !availableFrom.isBefore(availableTo))
+            throw new ValidationException("available_from must be before available_to");
+        return new SearchFilter(ownerId, answersRequest, AvailabilityWindow.from(window), availableFrom, availableTo);
+    }
+
+    public boolean isEmpty() {
+        return !hasPeriod() && !hasFacets();
+    }
+
+    public boolean hasPeriod() {
+        return availableFrom != null;
+    }
+
+    /**
+     * The filter on the period alone.
+     */
+    public SearchFilter period() {
+        return new SearchFilter(null, null, null, availableFrom, availableTo);
+    }
+
+    /**
+     * Whether the filter narrows down by owner, request or window.
+     */
+    public boolean hasFacets() {
+        return ownerId != null || answersRequest != null || window != null;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.search;
+
+import javax.validation.ValidationException;
+
+/**
+ * Order of search results: by id, the default, or by relevance to the text, best first.
+ */
+public enum SearchSort {
+    ID,
+    RELEVANCE;
+
+    public static SearchSort from(String sort) {
+        if (sort == null) return ID;
+        for (SearchSort value : values()) {
+            if (value.name().equalsIgnoreCase(sort))
+                return value;
+        }
+        throw new ValidationException("Unknown sort: " + sort);
+    }
+}
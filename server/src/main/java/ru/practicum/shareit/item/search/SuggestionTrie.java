@@ -0,0 +1,214 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.utils.TopK;
+
+import java.util.*;
+
+/**
+ * Completions of item names by prefix, from a radix trie. Each name is put under its normalized
+ * form and under every suffix of it that starts a word, so {@code "bos"} completes "Дрель Bosch".
+ * Names are weighted by the number of available items carrying them, and every node keeps the
+ * {@code k} heaviest names below it, so a completion costs the length of the prefix plus {@code k}.
+ * Changing a weight recomputes the nodes on the paths of the name's keys from their children.
+ * <p>
+ * Not thread-safe.
+ */
+class SuggestionTrie {
+    private static final Comparator<Entry> ORDER = Comparator.<Entry>comparingInt(entry -> -entry.count)
+            .thenComparing(entry -> entry.key);
+    private static final Entry[] NONE = new Entry[0];
+
+    private final int k;
+    private final Node root = new Node("");
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    SuggestionTrie(int k) {
+        this.k = k;
+    }
+
+    void add(String name) {
+        add(name, 1);
+    }
+
+    /**
+     * Adds the name as carried by {@code count} items at once, recomputing its paths once rather than per item.
+     */
+    void add(String name, int count) {
+        var key = normalize(name);
+        if (key.isEmpty()) return;
+        var entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key, name.strip());
+            entries.put(key, entry);
+            entry.count += count;
+            for (String suffix : suffixes(key))
+                insert(suffix, entry);
+        } else {
+            entry.count += count;
+            for (String suffix : suffixes(key))
+                recompute(path(suffix));
+        }
+    }
+
+    void remove(String name) {
+        var entry = entries.get(normalize(name));
+        if (entry == null) return;
+        if (--entry.count > 0) {
+            for (String suffix : suffixes(entry.key))
+                recompute(path(suffix));
+            return;
+        }
+        entries.remove(entry.key);
+        for (String suffix : suffixes(entry.key))
+            delete(suffix, entry);
+    }
+
+    List<String> complete(String prefix, int limit) {
+        var rest = normalize(prefix);
+        var node = root;
+        while (!rest.isEmpty()) {
+            node = node.children.get(rest.charAt(0));
+            if (node == null) return List.of();
+            var common = commonPrefix(node.label, rest);
+            if (common < Math.min(node.label.length(), rest.length())) return List.of();
+            rest = rest.substring(common);
+        }
+        var result = new ArrayList<String>();
+        for (int i = 0; i < node.top.length && i < limit; i++)
+            result.add(node.top[i].name);
+        return result;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void insert(String key, Entry entry) {
+        var path = new ArrayList<Node>();
+        var node = root;
+        path.add(node);
+        var rest = key;
+        while (!rest.isEmpty()) {
+            var child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                child = new Node(rest);
+                node.children.put(rest.charAt(0), child);
+                rest = "";
+            } else {
+                var common = commonPrefix(child.label, rest);
+                if (common < child.label.length())
+                    child = split(node, child, common);
+                rest = rest.substring(common);
+            }
+            node = child;
+            path.add(node);
+        }
+        if (!node.terminal.contains(entry))
+            node.terminal.add(entry);
+        recompute(path);
+    }
+
+    private void delete(String key, Entry entry) {
+        var path = path(key);
+        if (path.isEmpty()) return;
+        path.get(path.size() - 1).terminal.remove(entry);
+        for (int i = path.size() - 1; i > 0; i--) {
+            var node = path.get(i);
+            var parent = path.get(i - 1);
+            if (node.terminal.isEmpty() && node.children.isEmpty())
+                parent.children.remove(node.label.charAt(0));
+            else if (node.terminal.isEmpty() && node.children.size() == 1)
+                merge(parent, node);
+        }
+        recompute(path);
+    }
+
+    /**
+     * Nodes from the root to the one the key ends at, or nothing if the key is not in the trie.
+     */
+    private List<Node> path(String key) {
+        var path = new ArrayList<Node>();
+        var node = root;
+        path.add(node);
+        var rest = key;
+        while (!rest.isEmpty()) {
+            node = node.children.get(rest.charAt(0));
+            if (node == null || !rest.startsWith(node.label)) return List.of();
+            rest = rest.substring(node.label.length());
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void recompute(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            var node = path.get(i);
+            var best = new TopK<Entry>(k, ORDER);
+            var seen = new HashSet<Entry>();
+            for (Entry entry : node.terminal)
+                if (seen.add(entry)) best.add(entry);
+            for (Node child : node.children.values())
+                for (Entry entry : child.top)
+                    if (seen.add(entry)) best.add(entry);
+            node.top = best.toList().toArray(NONE);
+        }
+    }
+
+    private static Node split(Node parent, Node child, int at) {
+        var middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top = child.top;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static void merge(Node parent, Node node) {
+        var child = node.children.values().iterator().next();
+        child.label = node.label + child.label;
+        parent.children.put(child.label.charAt(0), child);
+    }
+
+    private static int commonPrefix(String a, String b) {
+        var length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++)
+            if (a.charAt(i) != b.charAt(i)) return i;
+        return length;
+    }
+
+    private static String normalize(String text) {
+        return Analyzer.normalize(text).strip().replaceAll("\\s+", " ");
+    }
+
+    private static List<String> suffixes(String key) {
+        var suffixes = new ArrayList<String>();
+        for (int i = 0; i < key.length(); i++)
+            if (Character.isLetterOrDigit(key.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(key.charAt(i - 1))))
+                suffixes.add(key.substring(i));
+        if (suffixes.isEmpty())
+            suffixes.add(key);
+        return suffixes;
+    }
+
+    private static class Node {
+        String label;
+        final Map<Character, Node> children = new HashMap<>(4);
+        final List<Entry> terminal = new ArrayList<>(1);
+        Entry[] top = NONE;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static class Entry {
+        final String key;
+        final String name;
+        int count;
+
+        Entry(String key, String name) {
+            this.key = key;
+            this.name = name;
+        }
+    }
+}
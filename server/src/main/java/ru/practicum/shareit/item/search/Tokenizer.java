@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into lowercased runs of letters and digits.
+ */
+class Tokenizer {
+    private Tokenizer() {
+    }
+
+    static List<String> tokens(String text) {
+        var lower = text.toLowerCase(Locale.ROOT);
+        var tokens = new ArrayList<String>();
+        var start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            var inToken = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (inToken && start < 0)
+                start = i;
+            else if (!inToken && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
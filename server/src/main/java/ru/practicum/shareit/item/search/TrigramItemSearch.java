@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.utils.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The substring match of {@link LikeItemSearch} on PostgreSQL, written against {@code lower(name)}
+ * and {@code lower(description)} so that the {@code pg_trgm} GIN indexes on them can serve the
+ * {@code LIKE '%text%'} predicates. Texts shorter than three characters have no trigram to look up
+ * and end up scanning the whole index. For relevance the database orders the matches by trigram
+ * similarity and the best {@value ItemSearch#RANK_CANDIDATES} of them, or as many as the page
+ * reaches, are scored again with {@link CorpusRanking}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search", havingValue = "trigram")
+public class TrigramItemSearch implements ItemSearch {
+    private final ItemRepository itemRepository;
+    private final CorpusRanking corpusRanking;
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        if (pageable == null)
+            return itemRepository.searchTrigram(text, Pageable.unpaged());
+        return itemRepository.searchTrigram(text, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    @Override
+    public List<Item> rank(String text, Pageable pageable) {
+        var candidates = pageable == null ? Pageable.unpaged()
+                : PageRequest.ofSize((int) Math.max(RANK_CANDIDATES, pageable.getOffset() + pageable.getPageSize()));
+        return corpusRanking.rank(itemRepository.searchTrigramRanked(text, candidates), text, pageable);
+    }
+
+    @Override
+    public List<Item> searchFree(String text, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (pageable == null)
+            return itemRepository.searchTrigramFree(text, from, to, Pageable.unpaged());
+        return itemRepository.searchTrigramFree(text, from, to,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    @Override
+    public List<ItemMatch> match(String text, SearchSort sort, boolean fuzzy, SearchFilter filter) {
+        if (fuzzy)
+            return ItemSearch.super.match(text, sort, true, filter);
+        List<Object[]> rows;
+        if (filter.hasPeriod())
+            rows = itemRepository.matchTrigramFree(text, filter.getOwnerId(), filter.getAnswersRequest(),
+                    filter.getAvailableFrom(), filter.getAvailableTo());
+        else if (sort == SearchSort.RELEVANCE)
+            rows = itemRepository.matchTrigramRanked(text, filter.getOwnerId(), filter.getAnswersRequest());
+        else
+            rows = itemRepository.matchTrigram(text, filter.getOwnerId(), filter.getAnswersRequest());
+        var matches = rows.stream().map(ItemMapper::mapToItemMatch).collect(toList());
+        if (sort == SearchSort.RELEVANCE && !filter.hasPeriod())
+            return corpusRanking.rank(matches, text, RANK_CANDIDATES);
+        return matches;
+    }
+
+    @Override
+    public Slice<Item> searchAfter(String text, Cursor cursor, Pageable pageable) {
+        var after = cursor == null ? 0 : cursor.getId();
+        return ItemSlices.of(itemRepository.searchTrigramAfter(text, after, ItemSlices.limit(pageable)), pageable);
+    }
+
+    @Override
+    public void saved(Item item) {
+        corpusRanking.saved(item);
+    }
+
+    @Override
+    public void removed(Collection<Integer> itemIds) {
+        corpusRanking.removed(itemIds);
+    }
+}
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.item.search;
+
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.apache.lucene.util.automaton.LevenshteinAutomata;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * The words of the indexed documents, each with the number of documents containing it, in a
+ * character trie. Misspelt words are looked up by walking the trie with the deterministic
+ * Levenshtein automaton of the word, which stops descending as soon as the prefix walked cannot be
+ * completed within the allowed edits, so a lookup visits a small part of the dictionary however
+ * large it grows. A transposition of adjacent characters counts as one edit.
+ * <p>
+ * Not thread-safe.
+ */
+class WordDictionary {
+    static final int MAX_EDITS = LevenshteinAutomata.MAXIMUM_SUPPORTED_DISTANCE;
+
+    private final Node root = new Node();
+    private int size;
+
+    void add(String word) {
+        var node = root;
+        for (int i = 0; i < word.length(); i++)
+            node = node.child(word.charAt(i), true);
+        if (node.frequency++ == 0)
+            size++;
+    }
+
+    void remove(String word) {
+        remove(root, word, 0);
+    }
+
+    int frequency(String word) {
+        var node = root;
+        for (int i = 0; i < word.length() && node != null; i++)
+            node = node.child(word.charAt(i), false);
+        return node == null ? 0 : node.frequency;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Edits allowed in a word of the given length: none up to two characters, one up to five and
+     * {@value #MAX_EDITS} beyond, so that short words are not matched by most of the dictionary.
+     */
+    static int edits(int length) {
+        return length <= 2 ? 0 : length <= 5 ? 1 : MAX_EDITS;
+    }
+
+    /**
+     * Passes every word within {@code edits} edits of the given one, with its frequency, to the consumer.
+     */
+    void similar(String word, int edits, ObjIntConsumer<String> consumer) {
+        var automaton = new CharacterRunAutomaton(new LevenshteinAutomata(word, true).toAutomaton(edits));
+        walk(root, 0, automaton, new StringBuilder(), consumer);
+    }
+
+    /**
+     * The most frequent word at the least distance from the given one, unless it is a known word itself.
+     */
+    Optional<String> correct(String word) {
+        if (frequency(word) > 0) return Optional.empty();
+        for (int edits = 1; edits <= edits(word.length()); edits++) {
+            var best = new String[1];
+            var bestFrequency = new int[1];
+            similar(word, edits, (candidate, frequency) -> {
+                if (frequency > bestFrequency[0]
+                        || frequency == bestFrequency[0] && candidate.compareTo(best[0]) < 0) {
+                    best[0] = candidate;
+                    bestFrequency[0] = frequency;
+                }
+            });
+            if (best[0] != null) return Optional.of(best[0]);
+        }
+        return Optional.empty();
+    }
+
+    private static void walk(Node node, int state, CharacterRunAutomaton automaton, StringBuilder prefix,
+                             ObjIntConsumer<String> consumer) {
+        if (node.frequency > 0 && automaton.isAccept(state))
+            consumer.accept(prefix.toString(), node.frequency);
+        for (int i = 0; i < node.size; i++) {
+            var next = automaton.step(state, node.labels[i]);
+            if (next < 0) continue;
+            prefix.append(node.labels[i]);
+            walk(node.children[i], next, automaton, prefix, consumer);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    /**
+     * Removes one occurrence of the word below the node and tells whether the node became empty.
+     */
+    private boolean remove(Node node, String word, int at) {
+        if (at == word.length()) {
+            if (node.frequency == 0) return false;
+            if (--node.frequency == 0)
+                size--;
+        } else {
+            var child = node.child(word.charAt(at), false);
+            if (child == null || !remove(child, word, at + 1)) return false;
+            node.removeChild(word.charAt(at));
+        }
+        return node.frequency == 0 && node.size == 0;
+    }
+
+    /**
+     * A trie node with its children in arrays sorted by label.
+     */
+    private static class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        int size;
+        int frequency;
+
+        Node child(char label, boolean create) {
+            var at = Arrays.binarySearch(labels, 0, size, label);
+            if (at >= 0) return children[at];
+            if (!create) return null;
+            var insert = -at - 1;
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(2, size * 2));
+                children = Arrays.copyOf(children, labels.length);
+            }
+            System.arraycopy(labels, insert, labels, insert + 1, size - insert);
+            System.arraycopy(children, insert, children, insert + 1, size - insert);
+            labels[insert] = label;
+            children[insert] = new Node();
+            size++;
+            return children[insert];
+        }
+
+        void removeChild(char label) {
+            var at = Arrays.binarySearch(labels, 0, size, label);
+            if (at < 0) return;
+            System.arraycopy(labels, at + 1, labels, at, size - at - 1);
+            System.arraycopy(children, at + 1, children, at, size - at - 1);
+            children[--size] = null;
+        }
+    }
+}
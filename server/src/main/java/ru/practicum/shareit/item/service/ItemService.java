@@ -1,10 +1,15 @@
 package ru.practicum.shareit.item.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.item.search.SearchFilter;
+import ru.practicum.shareit.item.search.SearchSort;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemService {
 
@@ -20,12 +25,41 @@ public interface ItemService {
 
     ItemAllFieldsDto get(Integer id, Integer itemId);
 
+    /**
+     * The item a booking is made for, read with one primary-key query; the owner and the request are taken from
+     * their foreign keys without loading them.
+     */
+    ItemDto getBookingView(Integer id);
+
     List<ItemDto> getItemsByRequests(List<ItemRequest> requests);
 
     List<ItemDto> getItemsByRequestId(Integer requestId);
 
     List<ItemDtoWithBooking> getAllItems(Integer userId, Integer from, Integer size);
 
+    Slice<ItemDtoWithBooking> getAllItemsAfter(Integer userId, String cursor, Integer size);
+
     List<ItemDto> search(String text, Integer userId, Integer from, Integer size);
 
+    List<ItemDto> searchByRelevance(String text, Integer userId, Integer from, Integer size);
+
+    List<ItemDto> searchFuzzy(String text, SearchSort sort, Integer userId, Integer from, Integer size);
+
+    Optional<String> correct(String text);
+
+    List<ItemDto> searchFiltered(String text, SearchSort sort, boolean fuzzy, SearchFilter filter,
+                                 Integer userId, Integer from, Integer size);
+
+    ItemFacetsDto facets(String text, boolean fuzzy, SearchFilter filter, Integer userId);
+
+    List<String> suggest(String prefix, Integer size);
+
+    Slice<ItemDto> searchAfter(String text, Integer userId, String cursor, Integer size);
+
+    /**
+     * Takes the items deleted together with the user, those they own and those answering their requests, out of the
+     * search, its cached pages and the suggestions.
+     */
+    void userDeleted(UserDeletedEvent event);
+
 }
\ No newline at end of file
@@ -2,12 +2,16 @@ package ru.practicum.shareit.item.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
-import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.mapper.CommentMapper;
@@ -16,27 +20,47 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemFacets;
+import ru.practicum.shareit.item.search.ItemSearch;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSuggestions;
+import ru.practicum.shareit.item.search.SearchFilter;
+import ru.practicum.shareit.item.search.SearchSort;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserDeletedEvent;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utils.Cursor;
+import ru.practicum.shareit.utils.Keyset;
+import ru.practicum.shareit.utils.OptimisticRetry;
 
 import javax.validation.ValidationException;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import static java.time.LocalDateTime.now;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
-import static ru.practicum.shareit.booking.model.BookingTimeState.PAST;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.jpa.domain.Specification.where;
+import static ru.practicum.shareit.booking.model.BookingStatus.APPROVED;
 import static ru.practicum.shareit.item.mapper.CommentMapper.mapToComment;
 import static ru.practicum.shareit.item.mapper.CommentMapper.mapToCommentDto;
 import static ru.practicum.shareit.item.mapper.ItemMapper.*;
+import static ru.practicum.shareit.item.repository.ItemSpecifications.ownerIs;
 import static ru.practicum.shareit.user.mapper.UserMapper.toUser;
+import static ru.practicum.shareit.utils.Pagination.DEFAULT_SIZE;
+import static ru.practicum.shareit.utils.Pagination.makeKeysetRequest;
 import static ru.practicum.shareit.utils.Pagination.makePageRequest;
 
 @Slf4j
@@ -44,12 +68,17 @@ import static ru.practicum.shareit.utils.Pagination.makePageRequest;
 @AllArgsConstructor
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
+    private static final PageRequest FIRST = PageRequest.of(0, 1);
     private final ItemRepository itemRepository;
     private final CommentRepository commentRepository;
     private final UserService userService;
-    private final BookingService bookingService;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final OptimisticRetry optimisticRetry;
+    private final ItemSearch itemSearch;
+    private final ItemSearchCache searchCache;
+    private final ItemSuggestions suggestions;
+    private final ItemFacets itemFacets;
 
     @Override
     @Transactional
@@ -62,40 +91,58 @@ public class ItemServiceImpl implements ItemService {
                     itemRequestDto, userService.get(itemRequestDto.getRequesterId())));
         item.setOwner(user);
         var save = itemRepository.save(item);
+        itemSearch.saved(save);
+        searchCache.evict(save);
+        suggestions.saved(save);
         return mapToItemDto(save);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ItemDto update(ItemDto itemDto, Integer userId) {
         if (userId == null) throw new ValidationException("User ID cannot be null");
-        var item = itemRepository.findById(itemDto.getId()).orElseThrow(
-                () -> new NotFoundException("Item with id#" + itemDto.getId() + " does not exist"));
-        if (!item.getOwner().getId().equals(userId))
-            throw new NotFoundException("Item has another user");
-        if (itemDto.getName() != null)
-            item.setName(itemDto.getName());
-        if (itemDto.getDescription() != null)
-            item.setDescription(itemDto.getDescription());
-        if (itemDto.getAvailable() != null)
-            item.setAvailable(itemDto.getAvailable());
-        var save = itemRepository.save(item);
-        return mapToItemDto(save);
+        return optimisticRetry.execute(() -> {
+            var item = itemRepository.findById(itemDto.getId()).orElseThrow(
+                    () -> new NotFoundException("Item with id#" + itemDto.getId() + " does not exist"));
+            if (!item.getOwner().getId().equals(userId))
+                throw new NotFoundException("Item has another user");
+            searchCache.evict(item);
+            if (itemDto.getName() != null)
+                item.setName(itemDto.getName());
+            if (itemDto.getDescription() != null)
+                item.setDescription(itemDto.getDescription());
+            if (itemDto.getAvailable() != null)
+                item.setAvailable(itemDto.getAvailable());
+            var save = itemRepository.save(item);
+            itemSearch.saved(save);
+            searchCache.evict(save);
+            suggestions.saved(save);
+            return mapToItemDto(save);
+        });
     }
 
 
+    @Override
+    public ItemDto getBookingView(Integer id) {
+        return itemRepository.findById(id)
+                .map(ItemMapper::mapToItemDto)
+                .orElseThrow(() -> new NotFoundException("Item with id#" + id + " does not exist"));
+    }
+
     @Override
     public ItemAllFieldsDto get(Integer id, Integer userId) {
         var item = itemRepository.findById(id).orElseThrow(
                 () -> new NotFoundException("Item with id#" + id + " does not exist"));
         var comments = getAllComments(id);
-        var lastBooking = bookingRepository.findLastBookingByItemId(item.getId(), userId, LocalDateTime.now())
+        var lastBooking = bookingRepository.findLastBookingByItemId(item.getId(), userId, LocalDateTime.now(),
+                        FIRST)
                 .stream()
                 .findFirst()
                 .orElse(null);
-        var nextBooking = bookingRepository.findNextBookingByItemId(item.getId(), userId, LocalDateTime.now())
+        var nextBooking = bookingRepository.findNextBookingByItemId(item.getId(), userId, LocalDateTime.now(),
+                        FIRST)
                 .stream()
-                .findFirst().orElse(null);;
+                .findFirst().orElse(null);
         return mapToItemAllFieldsDto(item,
                 lastBooking,
                 nextBooking,
@@ -104,33 +151,157 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public List<ItemDtoWithBooking> getAllItems(Integer userId, Integer from, Integer size) {
-        return itemRepository.findByOwnerIdOrderByIdAsc(userId).stream()
-                .map(item -> {
-                            List<Comment> comments = getCommentsByItemId(item);
-                            Booking lastBooking = bookingRepository
-                                    .getFirstByItemIdAndEndBeforeOrderByEndDesc(item.getId(), LocalDateTime.now());
-                            Booking nextBooking = bookingRepository
-                                    .getTopByItemIdAndStartAfterOrderByStartAsc(item.getId(), LocalDateTime.now());
-                            return ItemMapper.toItemDtoWithBooking(comments, lastBooking, nextBooking, item);
-                        }
-                ).collect(Collectors.toList());
+        var pageRequest = makePageRequest(from, size, Sort.by("id").ascending());
+        if (pageRequest == null)
+            return toItemsWithBookings(List.copyOf(itemRepository.findByOwnerIdOrderByIdAsc(userId)));
+        return toItemsWithBookings(itemRepository.findByOwnerId(userId, pageRequest).getContent());
+    }
+
+    @Override
+    public Slice<ItemDtoWithBooking> getAllItemsAfter(Integer userId, String cursor, Integer size) {
+        var spec = where(ownerIs(userId))
+                .and(Keyset.<Item>after(Cursor.decode(cursor), "id", ASC));
+        var slice = itemRepository.findSlice(spec, makeKeysetRequest(size, Keyset.sort("id", ASC)));
+        return new SliceImpl<>(toItemsWithBookings(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    private List<ItemDtoWithBooking> toItemsWithBookings(List<Item> items) {
+        if (items.isEmpty()) return emptyList();
+        var itemIds = items.stream()
+                .map(Item::getId)
+                .collect(toList());
+        var now = LocalDateTime.now();
+        Map<Integer, Booking> lastBookings = new HashMap<>();
+        Map<Integer, Booking> nextBookings = new HashMap<>();
+        for (Booking booking : bookingRepository.findLastAndNextBookingsByItemIds(itemIds, now)) {
+            if (booking.getEnd().isBefore(now))
+                lastBookings.put(booking.getItem().getId(), booking);
+            else
+                nextBookings.put(booking.getItem().getId(), booking);
+        }
+        Map<Integer, List<Comment>> comments = commentRepository.getByItemIdInOrderByCreatedDesc(itemIds).stream()
+                .collect(groupingBy(comment -> comment.getItem().getId()));
+        return items.stream()
+                .map(item -> ItemMapper.toItemDtoWithBooking(
+                        comments.getOrDefault(item.getId(), emptyList()),
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        item))
+                .collect(toList());
     }
 
 
     @Override
     public List<ItemDto> search(String text, Integer userId, Integer from, Integer size) {
-        Stream<Item> stream;
         if (text.isBlank()) return emptyList();
         var pageRequest = makePageRequest(from, size, Sort.by("id").ascending());
-        if (pageRequest == null)
-            stream = itemRepository.search(text).stream();
-        else
-            stream = itemRepository.search(text, pageRequest).stream();
-        return stream
+        return searchCache.page(SearchSort.ID, text, from, size, () -> itemSearch.search(text, pageRequest)
+                .stream()
+                .map(ItemMapper::mapToItemDto)
+                .collect(toList()));
+    }
+
+    @Override
+    public List<ItemDto> searchByRelevance(String text, Integer userId, Integer from, Integer size) {
+        if (text.isBlank()) return emptyList();
+        var pageRequest = makePageRequest(from, size, Sort.unsorted());
+        return searchCache.page(SearchSort.RELEVANCE, text, from, size, () -> itemSearch.rank(text, pageRequest)
+                .stream()
+                .map(ItemMapper::mapToItemDto)
+                .collect(toList()));
+    }
+
+    /**
+     * Not cached: {@link ItemSearchCache} evicts a text only for the items that contain it or its terms.
+     */
+    @Override
+    public List<ItemDto> searchFuzzy(String text, SearchSort sort, Integer userId, Integer from, Integer size) {
+        if (text.isBlank()) return emptyList();
+        var pageRequest = makePageRequest(from, size, Sort.unsorted());
+        return itemSearch.searchFuzzy(text, sort, pageRequest)
+                .stream()
+                .map(ItemMapper::mapToItemDto)
+                .collect(toList());
+    }
+
+    @Override
+    public Optional<String> correct(String text) {
+        if (text == null || text.isBlank()) return Optional.empty();
+        return itemSearch.correct(text);
+    }
+
+    /**
+     * Filters the whole match set in memory, so it is not cached either. Only the ids, owners and requests of the
+     * matches are read for it, the owner and request criteria applied by the search where it can, and then the
+     * items of the page.
+     */
+    @Override
+    public List<ItemDto> searchFiltered(String text, SearchSort sort, boolean fuzzy, SearchFilter filter,
+                                        Integer userId, Integer from, Integer size) {
+        checkPeriod(filter, sort, fuzzy);
+        if (text.isBlank()) return emptyList();
+        var pageRequest = makePageRequest(from, size, Sort.unsorted());
+        if (!filter.hasFacets())
+            return itemSearch.searchFree(text, filter.getAvailableFrom(), filter.getAvailableTo(), pageRequest)
+                    .stream()
+                    .map(ItemMapper::mapToItemDto)
+                    .collect(toList());
+        var skip = pageRequest == null ? 0 : pageRequest.getOffset();
+        var limit = pageRequest == null ? Integer.MAX_VALUE : pageRequest.getPageSize();
+        var page = itemFacets.filter(itemSearch.match(text, sort, fuzzy, filter), filter, skip, limit);
+        var byId = itemRepository.findAllById(page.stream().map(ItemMatch::getId).collect(toList()))
+                .stream()
+                .collect(toMap(Item::getId, identity()));
+        return page.stream()
+                .map(match -> byId.get(match.getId()))
+                .filter(Objects::nonNull)
                 .map(ItemMapper::mapToItemDto)
                 .collect(toList());
     }
 
+    /**
+     * The owner and request facets count the alternatives to the values the filter picks, so the search is narrowed
+     * down by the period of the filter alone.
+     */
+    @Override
+    public ItemFacetsDto facets(String text, boolean fuzzy, SearchFilter filter, Integer userId) {
+        checkPeriod(filter, SearchSort.ID, fuzzy);
+        if (text.isBlank()) return itemFacets.count(emptyList(), filter);
+        return itemFacets.count(itemSearch.match(text, SearchSort.ID, fuzzy, filter.period()), filter);
+    }
+
+    private static void checkPeriod(SearchFilter filter, SearchSort sort, boolean fuzzy) {
+        if (filter.hasPeriod() && (fuzzy || sort == SearchSort.RELEVANCE))
+            throw new ValidationException("Search for free items is exact and ordered by id");
+    }
+
+    @Override
+    public List<String> suggest(String prefix, Integer size) {
+        if (size == null) return suggestions.suggest(prefix, DEFAULT_SIZE);
+        if (size <= 0) throw new ValidationException("size <= 0");
+        return suggestions.suggest(prefix, size);
+    }
+
+    @Override
+    public Slice<ItemDto> searchAfter(String text, Integer userId, String cursor, Integer size) {
+        if (text.isBlank()) return new SliceImpl<>(emptyList());
+        var after = Cursor.decode(cursor);
+        var keysetRequest = makeKeysetRequest(size, Keyset.sort("id", ASC));
+        return searchCache.slice(text, cursor, size, () -> itemSearch.searchAfter(text, after, keysetRequest)
+                .map(ItemMapper::mapToItemDto));
+    }
+
+    @Override
+    @EventListener
+    @Transactional
+    public void userDeleted(UserDeletedEvent event) {
+        var items = itemRepository.findDeletedWithUser(event.getUserId());
+        items.forEach(searchCache::evict);
+        var itemIds = items.stream().map(Item::getId).collect(toList());
+        itemSearch.removed(itemIds);
+        suggestions.removed(itemIds);
+    }
+
     @Override
     @Transactional
     public CommentDto saveComment(CommentDto commentDto,
@@ -141,8 +312,8 @@ public class ItemServiceImpl implements ItemService {
         var item = itemRepository.findById(itemId).orElseThrow(
                 () -> new NotFoundException("Item with id#" + itemId + " does not exist"));
         var user = toUser(userService.get(userId));
-        var bookings = bookingService.getAllBookings(userId, PAST.name());
-        if (bookings.isEmpty()) throw new ValidationException("User cannot make comments");
+        if (!bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(userId, itemId, APPROVED, now()))
+            throw new ValidationException("User cannot make comments");
         var comment = mapToComment(commentDto);
         comment.setItem(item);
         comment.setAuthor(user);
@@ -187,8 +358,4 @@ public class ItemServiceImpl implements ItemService {
             throw new ValidationException("Available cannot be null");
     }
 
-    public List<Comment> getCommentsByItemId(Item item) {
-        return commentRepository.getByItemIdOrderByCreatedDesc(item.getId());
-    }
-
 }
\ No newline at end of file
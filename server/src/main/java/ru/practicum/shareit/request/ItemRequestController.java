@@ -1,9 +1,11 @@
 package ru.practicum.shareit.request;
 
 import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.utils.Cursor;
 
 import java.util.List;
 
@@ -23,10 +25,14 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAllItemRequests(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
-                                                   @RequestParam(required = false) Integer from,
-                                                   @RequestParam(required = false) Integer size) {
-        return itemRequestService.getAllItemRequests(from, size, userId);
+    public ResponseEntity<List<ItemRequestDto>> getAllItemRequests(@RequestHeader(value = HEADER_SHARER_USER_ID, required = false) Integer userId,
+                                                                   @RequestParam(required = false) Integer from,
+                                                                   @RequestParam(required = false) Integer size,
+                                                                   @RequestParam(required = false) String cursor) {
+        if (cursor == null)
+            return ResponseEntity.ok(itemRequestService.getAllItemRequests(from, size, userId));
+        return Cursor.toResponse(itemRequestService.getAllItemRequestsAfter(cursor, size, userId),
+                request -> Cursor.encode(request.getCreated(), request.getId()));
     }
 
     @PostMapping()
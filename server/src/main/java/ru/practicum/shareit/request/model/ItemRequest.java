@@ -26,7 +26,8 @@ public class ItemRequest {
     @Column(nullable = false)
     private String description;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "requester_id", nullable = false)
     private User requester;
 
@@ -2,13 +2,13 @@ package ru.practicum.shareit.request.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.KeysetRepository;
 
 import java.util.List;
 
-public interface ItemRequestRepository extends JpaRepository<ItemRequest, Integer> {
+public interface ItemRequestRepository extends KeysetRepository<ItemRequest, Integer> {
 
     Page<ItemRequest> findItemRequestByRequester_IdIsNotOrderByCreatedDesc(Integer userId, Pageable pageable);
 
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+public class ItemRequestSpecifications {
+    public static Specification<ItemRequest> requesterIsNot(Integer userId) {
+        return (root, query, builder) -> builder.notEqual(root.get("requester").get("id"), userId);
+    }
+}
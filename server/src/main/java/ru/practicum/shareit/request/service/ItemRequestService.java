@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.List;
@@ -7,6 +8,8 @@ import java.util.List;
 public interface ItemRequestService {
     List<ItemRequestDto> getAllItemRequests(Integer from, Integer size, Integer userId);
 
+    Slice<ItemRequestDto> getAllItemRequestsAfter(String cursor, Integer size, Integer userId);
+
     ItemRequestDto save(ItemRequestDto itemRequestDto, Integer requesterId);
 
     ItemRequestDto getItemRequestById(Integer requestId, Integer userId);
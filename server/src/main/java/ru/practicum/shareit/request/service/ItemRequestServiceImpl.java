@@ -2,6 +2,8 @@ package ru.practicum.shareit.request.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.exceptions.NotFoundException;
@@ -11,6 +13,8 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.utils.Cursor;
+import ru.practicum.shareit.utils.Keyset;
 
 import javax.validation.ValidationException;
 
@@ -19,9 +23,13 @@ import java.util.List;
 import static java.time.LocalDateTime.now;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.data.jpa.domain.Specification.where;
 import static ru.practicum.shareit.request.mapper.ItemRequestMapper.mapToItemRequest;
 import static ru.practicum.shareit.request.mapper.ItemRequestMapper.mapToItemRequestDto;
+import static ru.practicum.shareit.request.repository.ItemRequestSpecifications.requesterIsNot;
 import static ru.practicum.shareit.user.mapper.UserMapper.toUser;
+import static ru.practicum.shareit.utils.Pagination.makeKeysetRequest;
 import static ru.practicum.shareit.utils.Pagination.makePageRequest;
 
 @Slf4j
@@ -44,6 +52,18 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                     .collect(toList());
 
         }
+        return withItems(requests);
+    }
+
+    @Override
+    public Slice<ItemRequestDto> getAllItemRequestsAfter(String cursor, Integer size, Integer userId) {
+        var spec = where(requesterIsNot(userId))
+                .and(Keyset.<ItemRequest>after(Cursor.decode(cursor), "created", DESC));
+        var slice = itemRequestRepository.findSlice(spec, makeKeysetRequest(size, Keyset.sort("created", DESC)));
+        return new SliceImpl<>(withItems(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    private List<ItemRequestDto> withItems(List<ItemRequest> requests) {
         var items = itemService.getItemsByRequests(requests)
                 .stream()
                 .collect(groupingBy(ItemDto::getRequestId));
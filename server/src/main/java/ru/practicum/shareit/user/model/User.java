@@ -23,4 +23,11 @@ public class User {
     @Email
     @Column(name = "email", nullable = false, unique = true)
     private String email;
+
+    @Version
+    private int version;
+
+    public User(Integer id, String name, String email) {
+        this(id, name, email, 0);
+    }
 }
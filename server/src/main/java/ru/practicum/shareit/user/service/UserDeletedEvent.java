@@ -0,0 +1,12 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.Value;
+
+/**
+ * Published inside the transaction deleting a user, before the delete is issued, so that listeners can still read
+ * the rows the foreign keys remove together with the user.
+ */
+@Value
+public class UserDeletedEvent {
+    Integer userId;
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.user.service;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utils.OptimisticRetry;
 
 import javax.validation.ValidationException;
 import java.util.List;
@@ -23,6 +25,8 @@ import java.util.stream.Collectors;
 public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final OptimisticRetry optimisticRetry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserDto save(UserDto userDto) {
@@ -39,19 +43,19 @@ public class UserService {
         return UserMapper.toUserDto(savedUser);
     }
 
-    @Transactional
     public UserDto update(UserDto userDto, Integer userId) {
         validatePatch(userDto);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User with ID " + userId + " is not found"));
+        try {
+            return optimisticRetry.execute(() -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new NotFoundException("User with ID " + userId + " is not found"));
 
-        UserMapper.toUser(userDto);
-        if (userDto.getName() != null) user.setName(userDto.getName());
-        if (userDto.getEmail() != null) user.setEmail(userDto.getEmail());
+                if (userDto.getName() != null) user.setName(userDto.getName());
+                if (userDto.getEmail() != null) user.setEmail(userDto.getEmail());
 
-        try {
-            log.info("{} is updated", user);
-            return UserMapper.toUserDto(userRepository.save(user));
+                log.info("{} is updated", user);
+                return UserMapper.toUserDto(userRepository.save(user));
+            });
         } catch (DataIntegrityViolationException e) {
             throw new ConflictException("Email already in use");
         }
@@ -73,6 +77,7 @@ public class UserService {
     @Transactional
     public void delete(Integer userId) {
         if (userId == null) throw new ValidationException("User ID cannot be null.");
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
         userRepository.deleteById(userId);
     }
 
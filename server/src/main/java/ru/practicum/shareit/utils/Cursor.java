@@ -0,0 +1,68 @@
+package ru.practicum.shareit.utils;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import javax.validation.ValidationException;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Opaque keyset cursor: the sort key and id of the last row of a page, handed back to the client
+ * in the {@value #HEADER_NEXT_CURSOR} header and used as the exclusive bound of the next page.
+ * Cursors of id-ordered pages carry no sort key.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String key;
+    private final Integer id;
+
+    public static String encode(Integer id) {
+        return encode(null, id);
+    }
+
+    public static String encode(Object key, Integer id) {
+        var raw = key == null ? String.valueOf(id) : key + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            var raw = new String(DECODER.decode(cursor), UTF_8);
+            var separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0)
+                return new Cursor(null, Integer.valueOf(raw));
+            return new Cursor(raw.substring(0, separator), Integer.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Incorrect cursor: " + cursor);
+        }
+    }
+
+    public static <T> String next(Slice<T> slice, Function<T, String> cursorOf) {
+        if (!slice.hasNext()) return null;
+        List<T> content = slice.getContent();
+        return cursorOf.apply(content.get(content.size() - 1));
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponse(Slice<T> slice, Function<T, String> cursorOf) {
+        var next = next(slice, cursorOf);
+        var response = ResponseEntity.ok();
+        if (next != null)
+            response.header(HEADER_NEXT_CURSOR, next);
+        return response.body(slice.getContent());
+    }
+}
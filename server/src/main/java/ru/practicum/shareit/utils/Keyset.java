@@ -0,0 +1,58 @@
+package ru.practicum.shareit.utils;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.validation.ValidationException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Seek pagination over a {@code (sort key, id)} pair: rows are ordered by the sort key with the id
+ * as a tiebreaker, and the next page starts strictly after the row encoded in the {@link Cursor}.
+ */
+public class Keyset {
+    private static final String ID = "id";
+
+    public static Sort sort(String attribute, Sort.Direction direction) {
+        return ID.equals(attribute) ? Sort.by(direction, ID) : Sort.by(direction, attribute, ID);
+    }
+
+    public static <T> Specification<T> after(Cursor cursor, String attribute, Sort.Direction direction) {
+        return (root, query, builder) -> {
+            if (cursor == null) return null;
+            Predicate idAfter = after(builder, root.<Integer>get(ID), cursor.getId(), direction);
+            if (ID.equals(attribute)) return idAfter;
+            Expression<Comparable<Object>> key = root.get(attribute);
+            Comparable<Object> value = parse(cursor.getKey(), key.getJavaType());
+            return builder.or(
+                    after(builder, key, value, direction),
+                    builder.and(builder.equal(key, value), idAfter));
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate after(CriteriaBuilder builder,
+                                                                   Expression<? extends Y> path,
+                                                                   Y value,
+                                                                   Sort.Direction direction) {
+        return direction.isAscending() ? builder.greaterThan(path, value) : builder.lessThan(path, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parse(String key, Class<?> type) {
+        if (key == null) throw new ValidationException("Cursor has no sort key");
+        try {
+            if (LocalDateTime.class.equals(type))
+                return (Comparable<Object>) (Comparable<?>) LocalDateTime.parse(key);
+            if (Integer.class.equals(type))
+                return (Comparable<Object>) (Comparable<?>) Integer.valueOf(key);
+            return (Comparable<Object>) (Comparable<?>) key;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ValidationException("Incorrect cursor key: " + key);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.utils;
+
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Registered as an auto-configuration (see META-INF/spring.factories) rather than picked up by
+ * component scanning, so that {@code @DataJpaTest} slices get the same repository base class.
+ */
+@Configuration
+@AutoConfigureBefore(JpaRepositoriesAutoConfiguration.class)
+@EnableJpaRepositories(basePackages = "ru.practicum.shareit", repositoryBaseClass = KeysetRepositoryImpl.class)
+public class KeysetConfiguration {
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.utils;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface KeysetRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * Reads one page matching the specification without issuing a COUNT query:
+     * one extra row is fetched to tell whether a next page exists.
+     */
+    Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.utils;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import javax.persistence.EntityManager;
+
+public class KeysetRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T, ID> {
+
+    public KeysetRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> spec, Pageable pageable) {
+        var query = getQuery(spec, pageable.getSort());
+        if (pageable.isUnpaged())
+            return new SliceImpl<>(query.getResultList());
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        var content = query.getResultList();
+        var hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs an idempotent write in its own transaction and repeats it a bounded number of times when the
+ * commit loses a version check. Inside a caller's transaction it runs once: the stale state belongs
+ * to that transaction, so only the caller can retry.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetry {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            return action.get();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) throw e;
+                log.debug("Optimistic lock conflict, attempt {} of {}", attempt, MAX_ATTEMPTS);
+            }
+        }
+    }
+}
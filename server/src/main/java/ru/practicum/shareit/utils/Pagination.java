@@ -8,10 +8,17 @@ import static org.springframework.data.domain.PageRequest.*;
 import javax.validation.ValidationException;
 
 public class Pagination {
+    public static final int DEFAULT_SIZE = 10;
+
     public static PageRequest makePageRequest(Integer from, Integer size, Sort sort) {
         if (size == null || from == null) return null;
         if (size <= 0 || from < 0) throw new ValidationException("size <= 0 || from < 0");
         return PageRequest.of(from / size, size, sort);
     }
-}
 
+    public static PageRequest makeKeysetRequest(Integer size, Sort sort) {
+        if (size == null) return PageRequest.of(0, DEFAULT_SIZE, sort);
+        if (size <= 0) throw new ValidationException("size <= 0");
+        return PageRequest.of(0, size, sort);
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryCountConfiguration {
+    @Bean
+    public QueryCountFilter queryCountFilter(MeterRegistry meterRegistry,
+                                             @Value("${shareit.sql.count-header:false}") boolean header) {
+        return new QueryCountFilter(meterRegistry, header);
+    }
+}
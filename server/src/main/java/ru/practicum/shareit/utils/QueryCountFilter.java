@@ -0,0 +1,109 @@
+package ru.practicum.shareit.utils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Publishes the number of SQL statements each request issued as the {@value #METRIC} distribution,
+ * tagged with the HTTP method and the matched endpoint pattern, on every profile. With {@code header}
+ * on it also adds the count as the {@value #HEADER_QUERY_COUNT} header to every response, bodiless
+ * ones included. Only the header is meant for non-production profiles: {@code shareit.sql.count-header}
+ * is on in the {@code ci} and {@code test} ones and off by default.
+ */
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String METRIC = "shareit.sql.statements";
+    public static final String HEADER_QUERY_COUNT = "X-Query-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean header;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.reset();
+        var countingResponse = header ? new CountingResponse(response) : null;
+        try {
+            chain.doFilter(request, countingResponse != null ? countingResponse : response);
+        } finally {
+            if (countingResponse != null)
+                countingResponse.setCount();
+            var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC)
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(QueryCounter.count());
+        }
+    }
+
+    /**
+     * Sets the header at the last moment it still can: when the body is about to be written, the
+     * response is flushed or sent as an error or redirect, or, for responses without a body, once
+     * the request is handled.
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private boolean counted;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void setCount() {
+            if (counted || isCommitted())
+                return;
+            counted = true;
+            setHeader(HEADER_QUERY_COUNT, String.valueOf(QueryCounter.count()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            setCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            setCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            setCount();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            setCount();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the first {@code k} of the values added in a given order, in a heap of at most {@code k}
+ * entries whose head is the worst value kept: O(n log k) time and O(k) memory instead of sorting all.
+ */
+public class TopK<T> {
+    private final int k;
+    private final Comparator<? super T> worstFirst;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    public TopK(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        this.worstFirst = order.reversed();
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 64)), worstFirst);
+    }
+
+    public void add(T value) {
+        if (heap.size() < k)
+            heap.add(value);
+        else if (k > 0 && worstFirst.compare(value, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(value);
+        }
+    }
+
+    /**
+     * The values kept, best first.
+     */
+    public List<T> toList() {
+        var result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
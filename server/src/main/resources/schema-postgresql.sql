@@ -0,0 +1,27 @@
+-- Runs after schema.sql on PostgreSQL only: H2 has neither partial indexes nor exclusion constraints.
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start_active ON bookings (item_id, start_date)
+    WHERE status <> 'REJECTED';
+CREATE INDEX IF NOT EXISTS idx_bookings_item_end_active ON bookings (item_id, end_date DESC)
+    WHERE status <> 'REJECTED';
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+ALTER TABLE bookings ADD CONSTRAINT ex_bookings_item_period
+    EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&) WHERE (status = 'APPROVED');
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start_approved ON bookings (item_id, start_date DESC)
+    WHERE status = 'APPROVED';
+-- Serves the anti-join of the search for items free during a period, on both bounds of the bookings.
+CREATE INDEX IF NOT EXISTS idx_bookings_item_period_taking ON bookings
+    USING gist (item_id, tsrange(start_date, end_date)) WHERE status IN ('APPROVED', 'WAITING');
+
+-- Needs PostgreSQL 12+ for generated columns. Names weigh more than descriptions in ts_rank. The russian
+-- configuration stems Cyrillic words as Russian and Latin ones as English; "ё" is folded into "е" first.
+ALTER TABLE items ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('russian', translate(coalesce(name, ''), 'ёЁ', 'еЕ')), 'A') ||
+    setweight(to_tsvector('russian', translate(coalesce(description, ''), 'ёЁ', 'еЕ')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_items_search_vector ON items USING gin (search_vector) WHERE available;
+
+-- Trigram indexes for substring search: LIKE '%text%' on lower(name) and lower(description).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_items_name_trgm ON items USING gin (lower(name) gin_trgm_ops) WHERE available;
+CREATE INDEX IF NOT EXISTS idx_items_description_trgm ON items USING gin (lower(description) gin_trgm_ops)
+    WHERE available;
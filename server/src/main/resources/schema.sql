@@ -6,9 +6,10 @@ DROP TABLE IF EXISTS requests CASCADE;
 
 CREATE TABLE IF NOT EXISTS users
 (
-    id    BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    name  VARCHAR(255)                            NOT NULL,
-    email VARCHAR(255)                            NOT NULL,
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name    VARCHAR(255)                            NOT NULL,
+    email   VARCHAR(255)                            NOT NULL,
+    version INTEGER                                 NOT NULL DEFAULT 0,
     CONSTRAINT pk_user PRIMARY KEY (id),
     CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
 );
@@ -30,6 +31,7 @@ CREATE TABLE IF NOT EXISTS items
     available   BOOLEAN                                 NOT NULL DEFAULT FALSE,
     owner_id    BIGINT REFERENCES users (id) ON DELETE CASCADE,
     request_id  BIGINT REFERENCES requests (id) ON DELETE CASCADE,
+    version     INTEGER                                 NOT NULL DEFAULT 0,
     CONSTRAINT pk_item PRIMARY KEY (id)
 );
 
@@ -41,6 +43,7 @@ CREATE TABLE IF NOT EXISTS bookings
     item_id    BIGINT REFERENCES items (id) ON DELETE CASCADE,
     booker_id  BIGINT REFERENCES users (id) ON DELETE CASCADE,
     status     VARCHAR(30)                             NOT NULL,
+    version    INTEGER                                 NOT NULL DEFAULT 0,
     CONSTRAINT pk_booking PRIMARY KEY (id)
 );
 
@@ -52,4 +55,17 @@ CREATE TABLE IF NOT EXISTS comments
     author_id BIGINT REFERENCES users (id) ON DELETE CASCADE,
     created           TIMESTAMP WITHOUT TIME ZONE,
     CONSTRAINT pk_comment PRIMARY KEY (id)
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS idx_items_owner_id ON items (owner_id, id);
+CREATE INDEX IF NOT EXISTS idx_items_request_id ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_end ON bookings (item_id, end_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_item_end ON bookings (booker_id, item_id, end_date);
+
+CREATE INDEX IF NOT EXISTS idx_requests_requester_created ON requests (requester_id, created DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_requests_created ON requests (created DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_comments_item_created ON comments (item_id, created DESC);
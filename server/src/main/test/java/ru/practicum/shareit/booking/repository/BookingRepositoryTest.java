@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
@@ -18,9 +19,12 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.data.jpa.domain.Specification.where;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.*;
 
 @DataJpaTest
 class BookingRepositoryTest {
+    private static final Sort BY_START_DESC = Sort.by(Sort.Direction.DESC, "start", "id");
 
     @Autowired
     ItemRepository itemRepository;
@@ -47,7 +51,7 @@ class BookingRepositoryTest {
     @Test
     void findAllByBookerIdTest() {
         List<Booking> bookings = bookingRepository
-                .findBookingsByBookerIsOrderByStartDesc(user, PageRequest.ofSize(10)).getContent();
+                .findSlice(bookerIs(user.getId()), PageRequest.of(0, 10, BY_START_DESC)).getContent();
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -57,7 +61,7 @@ class BookingRepositoryTest {
 
     @Test
     void findAllByItemsOwnerIdTest() {
-        List<Booking> bookings = bookingRepository.findBookingsByItemOwnerIsOrderByStartDesc(user);
+        List<Booking> bookings = bookingRepository.findAll(itemOwnerIs(user.getId()), BY_START_DESC);
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -68,8 +72,8 @@ class BookingRepositoryTest {
     @Test
     void findAllCurrentByItemsOwnerIdTest() {
         LocalDateTime now = LocalDateTime.of(2022, 10, 15, 20, 22, 22);
-        List<Booking> bookings = bookingRepository.findBookingsByBookerIsAndStartBeforeAndEndAfterOrderByStartDesc(user, now, now,
-                PageRequest.ofSize(10)).getContent();
+        List<Booking> bookings = bookingRepository.findSlice(where(bookerIs(user.getId())).and(inState("CURRENT", now)),
+                PageRequest.of(0, 10, BY_START_DESC)).getContent();
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -80,8 +84,8 @@ class BookingRepositoryTest {
     @Test
     void findAllPastByItemsOwnerIdTest() {
         LocalDateTime now = LocalDateTime.of(2022, 10, 17, 20, 22, 22);
-        List<Booking> bookings = bookingRepository.findBookingsByBookerIsAndEndBeforeOrderByStartDesc(user, now,
-                PageRequest.ofSize(10)).getContent();
+        List<Booking> bookings = bookingRepository.findSlice(where(bookerIs(user.getId())).and(inState("PAST", now)),
+                PageRequest.of(0, 10, BY_START_DESC)).getContent();
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -92,8 +96,8 @@ class BookingRepositoryTest {
     @Test
     void findAllFutureByItemsOwnerIdTest() {
         LocalDateTime now = LocalDateTime.of(2022, 10, 14, 20, 22, 22);
-        List<Booking> bookings = bookingRepository.findBookingsByBookerIsAndStartIsAfterOrderByStartDesc(user, now,
-                PageRequest.ofSize(10)).getContent();
+        List<Booking> bookings = bookingRepository.findSlice(where(bookerIs(user.getId())).and(inState("FUTURE", now)),
+                PageRequest.of(0, 10, BY_START_DESC)).getContent();
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -105,7 +109,8 @@ class BookingRepositoryTest {
     void findAllStatusByItemsOwnerIdTest() {
         booking.setStatus(BookingStatus.WAITING);
         bookingRepository.save(booking);
-        List<Booking> bookings = bookingRepository.findBookingsByItemOwnerIsAndStatusIsOrderByStartDesc(user, BookingStatus.WAITING);
+        List<Booking> bookings = bookingRepository.findAll(
+                where(itemOwnerIs(user.getId())).and(inState("WAITING", LocalDateTime.now())), BY_START_DESC);
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -117,7 +122,8 @@ class BookingRepositoryTest {
     @Test
     void findLastBookingByItemIdTest() {
         LocalDateTime now = LocalDateTime.of(2022, 10, 17, 20, 22, 22);
-        List<Booking> bookings = bookingRepository.findLastBookingByItemId(item.getId(), user.getId(), now);
+        List<Booking> bookings = bookingRepository.findLastBookingByItemId(item.getId(), user.getId(), now,
+                PageRequest.of(0, 1));
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
@@ -128,7 +134,8 @@ class BookingRepositoryTest {
     @Test
     void findNextBookingByItemIdTest() {
         LocalDateTime now = LocalDateTime.of(2022, 10, 13, 20, 22, 22);
-        List<Booking> bookings = bookingRepository.findNextBookingByItemId(item.getId(), user.getId(), now);
+        List<Booking> bookings = bookingRepository.findNextBookingByItemId(item.getId(), user.getId(), now,
+                PageRequest.of(0, 1));
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
         assertEquals(booking.getId(), bookings.get(0).getId());
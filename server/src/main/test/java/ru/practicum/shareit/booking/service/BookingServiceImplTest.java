@@ -5,6 +5,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
 import ru.practicum.shareit.booking.dto.BookingSavingDto;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
@@ -15,10 +16,14 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.utils.Cursor;
 import ru.practicum.shareit.item.dto.ItemDto;
 import org.junit.jupiter.api.BeforeEach;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
@@ -33,6 +38,8 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.equalTo;
 import static java.time.LocalDateTime.now;
 import static java.util.List.of;
+import static ru.practicum.shareit.utils.QueryCountAssertions.assertMaxQueries;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.bookerIs;
 
 @Transactional
 @SpringBootTest
@@ -283,6 +290,39 @@ class BookingServiceImplTest {
                 equalTo(0));
     }
 
+    @Test
+    void getAllBookingsAfterCursorTest() {
+        var page = bookingService.getAllBookingsAfter(
+                bookingAllFieldsDto.getBooker().getId(),
+                "ALL",
+                null,
+                1);
+        assertThat(page.getContent().get(0).getId(),
+                equalTo(bookingAllFieldsDto.getId()));
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void getBookingsByOwnerIdAfterCursorTest() {
+        entityManager.flush();
+        entityManager.clear();
+        var page = bookingService.getBookingsByOwnerIdAfter(
+                owner.getId(),
+                "WAITING",
+                "",
+                10);
+        assertThat(page.getContent().size(),
+                equalTo(1));
+        var booking = page.getContent().get(0);
+        var empty = bookingService.getBookingsByOwnerIdAfter(
+                owner.getId(),
+                "WAITING",
+                Cursor.encode(booking.getStart(), booking.getId()),
+                10);
+        assertThat(empty.getContent().size(),
+                equalTo(0));
+    }
+
     @Test
     void getPastBookingsByOwnerIdTest() {
         var approved = bookingService.getBookingsByOwnerId(
@@ -701,4 +741,90 @@ class BookingServiceImplTest {
                 () -> bookingService.getBookingById(901, user1.getId()));
         assertEquals("Booking with id#901 does not exist", exception.getMessage());
     }
+
+    @Test
+    void saveOverlappingApprovedBookingTest() {
+        entityManager.flush();
+        entityManager.clear();
+        bookingService.approve(bookingAllFieldsDto.getId(), true, owner.getId());
+        var booker = userService.save(new UserDto(null, "Nick", "nick@mail.com"));
+        var item = new ItemAllFieldsDto(itemDto.getId(), itemDto.getName(), itemDto.getDescription(), true,
+                owner.getId(), null, null, null, of());
+        var overlapping = BookingSavingDto.builder()
+                .start(now().plusHours(1))
+                .end(now().plusHours(3))
+                .itemId(itemDto.getId())
+                .build();
+        var exception = assertThrows(ConflictException.class,
+                () -> bookingService.save(overlapping, item, booker.getId()));
+        assertEquals("Item with id#" + itemDto.getId() + " is already booked for these dates", exception.getMessage());
+
+        var adjacent = BookingSavingDto.builder()
+                .start(now().plusHours(3))
+                .end(now().plusHours(4))
+                .itemId(itemDto.getId())
+                .build();
+        assertThat(bookingService.save(adjacent, item, booker.getId()).getId(), notNullValue());
+    }
+
+    @Test
+    void approveOverlappingBookingTest() {
+        var booker = userService.save(new UserDto(null, "Nick", "nick@mail.com"));
+        var item = new ItemAllFieldsDto(itemDto.getId(), itemDto.getName(), itemDto.getDescription(), true,
+                owner.getId(), null, null, null, of());
+        var overlapping = bookingService.save(BookingSavingDto.builder()
+                .start(now().plusHours(1))
+                .end(now().plusHours(3))
+                .itemId(itemDto.getId())
+                .build(), item, booker.getId());
+        entityManager.flush();
+        entityManager.clear();
+        bookingService.approve(overlapping.getId(), true, owner.getId());
+        assertThrows(ConflictException.class,
+                () -> bookingService.approve(bookingAllFieldsDto.getId(), true, owner.getId()));
+        assertThat(bookingService.approve(bookingAllFieldsDto.getId(), false, owner.getId()).getStatus(),
+                equalTo(REJECTED.name()));
+    }
+
+    @Test
+    void saveQueryCountTest() {
+        var bookingSavingDto = BookingSavingDto.builder()
+                .start(now().plusDays(1))
+                .end(now().plusDays(2))
+                .itemId(itemDto.getId())
+                .build();
+        entityManager.flush();
+        entityManager.clear();
+        var item = assertMaxQueries(1, () -> itemService.getBookingView(itemDto.getId()));
+        entityManager.clear();
+        // the booker, the overlap probe and the insert; loading the referenced item for the response makes four
+        var booking = assertMaxQueries(3,
+                () -> bookingService.save(bookingSavingDto, item, bookingAllFieldsDto.getBooker().getId()));
+        assertThat(booking.getItem().getName(), equalTo(itemDto.getName()));
+        assertThat(booking.getItem().getOwnerId(), equalTo(owner.getId()));
+    }
+
+    @Test
+    void getAllBookingsQueryCountTest() {
+        entityManager.flush();
+        entityManager.clear();
+        var bookings = assertMaxQueries(2,
+                () -> bookingService.getAllBookings(bookingAllFieldsDto.getBooker().getId(), "ALL", 0, 10));
+        assertThat(bookings.size(), equalTo(1));
+        assertThat(bookings.get(0).getItem().getName(), equalTo(itemDto.getName()));
+    }
+
+    @Test
+    void bookingGraphIsFetchedTest() {
+        entityManager.flush();
+        entityManager.clear();
+        var bookings = bookingRepository.findSlice(bookerIs(bookingAllFieldsDto.getBooker().getId()),
+                PageRequest.of(0, 10, Sort.by("start"))).getContent();
+        assertTrue(Hibernate.isInitialized(bookings.get(0).getItem()));
+        assertTrue(Hibernate.isInitialized(bookings.get(0).getBooker()));
+        entityManager.clear();
+        var booking = bookingRepository.findById(bookingAllFieldsDto.getId()).orElseThrow();
+        assertTrue(Hibernate.isInitialized(booking.getItem()));
+        assertFalse(Hibernate.isInitialized(booking.getItem().getOwner()));
+    }
 }
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.transaction.Transactional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Transactional
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class DatasetGeneratorTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetProperties properties = new DatasetProperties();
+    private long bookingBase;
+    private long commentBase;
+
+    @BeforeEach
+    void initialize() {
+        properties.setUsers(50);
+        properties.setRequests(20);
+        properties.setItems(100);
+        properties.setBookings(2_000);
+        properties.setComments(200);
+        properties.setBatchSize(300);
+        bookingBase = maxId("bookings");
+        commentBase = maxId("comments");
+    }
+
+    @Test
+    void generateTest() {
+        var users = count("users");
+        var items = count("items");
+        var requests = count("requests");
+
+        new DatasetGenerator(jdbcTemplate, properties).generate();
+
+        assertThat(count("users") - users, equalTo(50L));
+        assertThat(count("items") - items, equalTo(100L));
+        assertThat(count("requests") - requests, equalTo(20L));
+        assertThat(query("SELECT COUNT(*) FROM bookings WHERE id > ?", bookingBase), equalTo(2_000L));
+        assertThat(query("SELECT COUNT(*) FROM comments WHERE id > ?", commentBase),
+                allOf(greaterThan(0L), lessThanOrEqualTo(200L)));
+    }
+
+    @Test
+    void generatedBookingsDoNotOverlapTest() {
+        new DatasetGenerator(jdbcTemplate, properties).generate();
+
+        assertThat(query("SELECT COUNT(*) FROM bookings a JOIN bookings b ON a.item_id = b.item_id AND a.id < b.id "
+                + "WHERE a.id > ? AND a.status = 'APPROVED' AND b.status = 'APPROVED' "
+                + "AND a.start_date < b.end_date AND b.start_date < a.end_date", bookingBase), equalTo(0L));
+        assertThat(query("SELECT COUNT(*) FROM bookings b JOIN items i ON i.id = b.item_id "
+                + "WHERE b.id > ? AND b.booker_id = i.owner_id", bookingBase), equalTo(0L));
+    }
+
+    @Test
+    void generatedCommentsHaveFinishedBookingsTest() {
+        new DatasetGenerator(jdbcTemplate, properties).generate();
+
+        assertThat(query("SELECT COUNT(*) FROM comments c WHERE c.id > ? AND NOT EXISTS (SELECT 1 FROM bookings b "
+                + "WHERE b.item_id = c.item_id AND b.booker_id = c.author_id AND b.status = 'APPROVED' "
+                + "AND b.end_date <= c.created)", commentBase), equalTo(0L));
+    }
+
+    private long count(String table) {
+        return query("SELECT COUNT(*) FROM " + table + " WHERE id > ?", 0L);
+    }
+
+    private long maxId(String table) {
+        return query("SELECT COALESCE(MAX(id), 0) FROM " + table + " WHERE id > ?", 0L);
+    }
+
+    private long query(String sql, long arg) {
+        var result = jdbcTemplate.queryForObject(sql, Long.class, arg);
+        return result == null ? 0 : result;
+    }
+}
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.exceptions;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import javax.validation.ValidationException;
 
@@ -53,4 +54,13 @@ public class ErrorHandlerTest {
 
         assertEquals(conflictException.getMessage(), exception.getError());
     }
+
+    @Test
+    void handleOptimisticLockTest() {
+        var optimisticLockException = new ObjectOptimisticLockingFailureException(Object.class, 1);
+
+        var exception = errorHandler.handleOptimisticLock(optimisticLockException);
+
+        assertEquals("Resource was modified concurrently, please retry", exception.getError());
+    }
 }
@@ -1,6 +1,9 @@
 package ru.practicum.shareit.item.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.utils.QueryCountConfiguration;
 import org.springframework.http.MediaType;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
@@ -9,6 +12,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
+import ru.practicum.shareit.item.dto.FacetCountDto;
+import ru.practicum.shareit.item.dto.ItemFacetsDto;
+import ru.practicum.shareit.item.search.SearchFilter;
+import ru.practicum.shareit.item.search.SearchSort;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,12 +24,16 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import org.junit.jupiter.api.Test;
 
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static ru.practicum.shareit.utils.QueryCountFilter.HEADER_QUERY_COUNT;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.http.MediaType.*;
 import static java.nio.charset.StandardCharsets.*;
@@ -32,9 +43,12 @@ import static org.hamcrest.Matchers.hasSize;
 import static java.time.LocalDateTime.*;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 import static java.util.List.*;
 
 @WebMvcTest(controllers = ItemController.class)
+@Import({QueryCountConfiguration.class, SimpleMeterRegistry.class})
 class ItemControllerTest {
     private final String headerSharerUserId = "X-Sharer-User-Id";
     @MockBean
@@ -127,6 +141,7 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.description", is(itemExtendedDto.getDescription())))
                 .andExpect(jsonPath("$.id", is(itemExtendedDto.getId()), Integer.class))
                 .andExpect(jsonPath("$.name", is(itemExtendedDto.getName())))
+                .andExpect(header().exists(HEADER_QUERY_COUNT))
                 .andExpect(status().isOk());
     }
 
@@ -181,6 +196,187 @@ class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void searchByRelevanceTest() throws Exception {
+        when(itemService.searchByRelevance(anyString(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(of(itemDto));
+        mvc.perform(get("/items/search")
+                        .header(headerSharerUserId, 1)
+                        .param("size", "1")
+                        .param("from", "0")
+                        .param("text", "drill")
+                        .param("sort", "relevance")
+                )
+                .andExpect(jsonPath("$[0].id", is(itemDto.getId()), Integer.class))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchUnknownSortTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("sort", "price"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchByRelevanceWithCursorTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("cursor", "MQ")
+                        .param("sort", "relevance"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchFuzzyTest() throws Exception {
+        when(itemService.searchFuzzy("дрелл", SearchSort.ID, 1, 0, 10))
+                .thenReturn(of(itemDto));
+        when(itemService.correct("дрелл"))
+                .thenReturn(Optional.of("дрель"));
+        mvc.perform(get("/items/search")
+                        .header(headerSharerUserId, 1)
+                        .param("text", "дрелл")
+                        .param("from", "0")
+                        .param("size", "10")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("X-Did-You-Mean", URLEncoder.encode("дрель", UTF_8)));
+    }
+
+    @Test
+    void searchWithoutHitsSuggestsCorrectionTest() throws Exception {
+        when(itemService.search(anyString(), any(), any(), any()))
+                .thenReturn(List.of());
+        when(itemService.correct("hamer drll"))
+                .thenReturn(Optional.of("hammer drill"));
+        mvc.perform(get("/items/search")
+                        .param("text", "hamer drll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)))
+                .andExpect(header().string("X-Did-You-Mean", "hammer+drill"));
+    }
+
+    @Test
+    void searchWithHitsDoesNotSuggestCorrectionTest() throws Exception {
+        when(itemService.search(anyString(), any(), any(), any()))
+                .thenReturn(of(itemDto));
+        mvc.perform(get("/items/search")
+                        .param("text", "drill"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Did-You-Mean"));
+        verify(itemService, never()).correct(anyString());
+    }
+
+    @Test
+    void searchFuzzyWithCursorTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("cursor", "MQ")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchFilteredTest() throws Exception {
+        when(itemService.searchFiltered("drill", SearchSort.ID, false, SearchFilter.of(3, true, "week"), 1, 0, 10))
+                .thenReturn(of(itemDto));
+        mvc.perform(get("/items/search")
+                        .header(headerSharerUserId, 1)
+                        .param("text", "drill")
+                        .param("from", "0")
+                        .param("size", "10")
+                        .param("ownerId", "3")
+                        .param("request", "true")
+                        .param("window", "week"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void searchUnknownWindowTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("window", "year"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchFilteredWithCursorTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("cursor", "MQ")
+                        .param("ownerId", "3"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchFreeTest() throws Exception {
+        var from = LocalDateTime.of(2030, 1, 10, 12, 0);
+        var to = LocalDateTime.of(2030, 1, 12, 12, 0);
+        when(itemService.searchFiltered("drill", SearchSort.ID, false, SearchFilter.of(null, null, null, from, to),
+                null, 0, 10))
+                .thenReturn(of(itemDto));
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("from", "0")
+                        .param("size", "10")
+                        .param("available_from", "2030-01-10T12:00:00")
+                        .param("available_to", "2030-01-12T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void searchFreeWithoutEndTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("available_from", "2030-01-10T12:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchFreeEndingBeforeStartTest() throws Exception {
+        mvc.perform(get("/items/search")
+                        .param("text", "drill")
+                        .param("available_from", "2030-01-12T12:00:00")
+                        .param("available_to", "2030-01-10T12:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void facetsTest() throws Exception {
+        when(itemService.facets("drill", false, SearchFilter.of(null, false, null), 1))
+                .thenReturn(ItemFacetsDto.builder()
+                        .total(2)
+                        .owner(of(new FacetCountDto("3", 2)))
+                        .request(of(new FacetCountDto("true", 1), new FacetCountDto("false", 2)))
+                        .window(of(new FacetCountDto("now", 2)))
+                        .build());
+        mvc.perform(get("/items/search/facets")
+                        .header(headerSharerUserId, 1)
+                        .param("text", "drill")
+                        .param("request", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.owner[0].value", is("3")))
+                .andExpect(jsonPath("$.request[1].count", is(2)));
+    }
+
+    @Test
+    void suggestTest() throws Exception {
+        when(itemService.suggest("дре", 5))
+                .thenReturn(of("Дрель Bosch", "Дрель Makita"));
+        mvc.perform(get("/items/suggest")
+                        .param("prefix", "дре")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0]", is("Дрель Bosch")));
+    }
+
     @Test
     void searchItemsByTextIsBlankTest() throws Exception {
         when(itemService.search(anyString(), anyInt(), anyInt(), anyInt()))
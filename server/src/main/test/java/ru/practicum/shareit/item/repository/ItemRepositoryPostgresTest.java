@@ -0,0 +1,260 @@
+package ru.practicum.shareit.item.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.CorpusRanking;
+import ru.practicum.shareit.item.search.FullTextItemSearch;
+import ru.practicum.shareit.item.search.ItemSearch;
+import ru.practicum.shareit.item.search.TrigramItemSearch;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.Cursor;
+
+import java.time.LocalDateTime;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.practicum.shareit.item.search.SearchResults.itemIds;
+import static ru.practicum.shareit.item.search.SearchResults.rowIds;
+
+/**
+ * Runs the native search queries, which H2 cannot, against PostgreSQL with schema-postgresql.sql applied: the
+ * pg_trgm and full-text indexes, the generated {@code search_vector} and the booking range index. Needs Docker and
+ * is skipped without it.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ItemRepositoryPostgresTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 1, 10, 12, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2030, 1, 12, 12, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ItemRepository itemRepository;
+    private User owner;
+    private Item perforator;
+    private Item cordless;
+    private Item drill;
+    private Item tent;
+    private CorpusRanking corpusRanking;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.sql.init.platform", () -> "postgresql");
+    }
+
+    @BeforeEach
+    void initialize() {
+        owner = entityManager.persist(User.builder().name("owner").email("owner@pg.test").build());
+        var lender = entityManager.persist(User.builder().name("lender").email("lender@pg.test").build());
+        var requester = entityManager.persist(User.builder().name("requester").email("requester@pg.test").build());
+        var request = entityManager.persist(ItemRequest.builder()
+                .description("Нужна дрель")
+                .requester(requester)
+                .created(LocalDateTime.of(2029, 12, 1, 12, 0))
+                .build());
+        perforator = item("Перфоратор", "Сверлит не хуже, чем дрель", owner, null, true);
+        cordless = item("Аккумуляторная дрель", "Два аккумулятора", lender, request, true);
+        drill = item("Дрель Bosch", "Ударная, с кейсом", owner, null, true);
+        item("Дрель Makita", "Сдана в ремонт", owner, null, false);
+        tent = item("Палатка", "Четырёхместная", lender, null, true);
+        entityManager.persist(Booking.builder()
+                .start(FROM.plusHours(1))
+                .end(TO.minusHours(1))
+                .item(drill)
+                .booker(lender)
+                .status(BookingStatus.APPROVED)
+                .build());
+        entityManager.flush();
+        corpusRanking = new CorpusRanking(itemRepository);
+        corpusRanking.rebuild();
+    }
+
+    @Test
+    void searchTrigramTest() {
+        ItemSearch itemSearch = new TrigramItemSearch(itemRepository, corpusRanking);
+
+        assertThat(itemIds(itemSearch.search("ДРЕЛ", PageRequest.of(0, 2, Sort.by("id")))),
+                contains(perforator.getId(), cordless.getId()));
+        assertThat(itemIds(itemSearch.search("ДРЕЛ", PageRequest.of(1, 2, Sort.by("id")))),
+                contains(drill.getId()));
+        assertThat(itemIds(itemSearch.search("bosc", null)), contains(drill.getId()));
+        assertThat(itemIds(itemSearch.search("дрелл", null)), empty());
+    }
+
+    @Test
+    void rankTrigramTest() {
+        ItemSearch itemSearch = new TrigramItemSearch(itemRepository, corpusRanking);
+
+        assertThat(itemIds(itemSearch.rank("дрел", PageRequest.of(0, 10, Sort.by("id")))),
+                contains(drill.getId(), cordless.getId(), perforator.getId()));
+        assertThat(itemIds(itemSearch.rank("дрел", PageRequest.of(1, 2))), contains(perforator.getId()));
+    }
+
+    @Test
+    void searchTrigramFreeTest() {
+        ItemSearch itemSearch = new TrigramItemSearch(itemRepository, corpusRanking);
+
+        assertThat(itemIds(itemSearch.searchFree("дрел", FROM, TO, PageRequest.of(0, 10, Sort.by("id")))),
+                contains(perforator.getId(), cordless.getId()));
+        assertThat(itemIds(itemSearch.searchFree("дрел", TO, TO.plusDays(1), null)),
+                contains(perforator.getId(), cordless.getId(), drill.getId()));
+    }
+
+    @Test
+    void searchTrigramAfterTest() {
+        ItemSearch itemSearch = new TrigramItemSearch(itemRepository, corpusRanking);
+
+        var first = itemSearch.searchAfter("дрел", null, PageRequest.of(0, 2));
+        var after = Cursor.decode(Cursor.encode(cordless.getId()));
+        var last = itemSearch.searchAfter("дрел", after, PageRequest.of(0, 2));
+
+        assertThat(itemIds(first.getContent()), contains(perforator.getId(), cordless.getId()));
+        assertThat(first.hasNext(), is(true));
+        assertThat(itemIds(last.getContent()), contains(drill.getId()));
+        assertThat(last.hasNext(), is(false));
+    }
+
+    @Test
+    void searchFullTextTest() {
+        ItemSearch itemSearch = new FullTextItemSearch(itemRepository, corpusRanking);
+
+        assertThat(itemIds(itemSearch.search("ДРЕЛИ", null)),
+                contains(perforator.getId(), cordless.getId(), drill.getId()));
+        assertThat(itemIds(itemSearch.search("дрель", PageRequest.of(1, 2, Sort.by("id")))),
+                contains(drill.getId()));
+        assertThat(itemIds(itemSearch.search("\"аккумуляторная дрель\"", null)), contains(cordless.getId()));
+        assertThat(itemIds(itemSearch.search("дрель -bosch", null)), contains(perforator.getId(), cordless.getId()));
+        assertThat(itemIds(itemSearch.search("палатку or перфораторы", null)),
+                contains(perforator.getId(), tent.getId()));
+        assertThat(itemIds(itemSearch.search("четырехместная", null)), contains(tent.getId()));
+        assertThat(itemIds(itemSearch.search("перфор", null)), empty());
+    }
+
+    @Test
+    void rankFullTextTest() {
+        ItemSearch itemSearch = new FullTextItemSearch(itemRepository, corpusRanking);
+
+        assertThat(itemIds(itemSearch.rank("дрель", PageRequest.of(0, 10, Sort.by("id")))),
+                contains(cordless.getId(), drill.getId(), perforator.getId()));
+        assertThat(itemIds(itemSearch.rank("дрель bosch", null)), contains(drill.getId()));
+    }
+
+    @Test
+    void searchFullTextFreeTest() {
+        ItemSearch itemSearch = new FullTextItemSearch(itemRepository, corpusRanking);
+
+        assertThat(itemIds(itemSearch.searchFree("дрель", FROM, TO, null)),
+                contains(perforator.getId(), cordless.getId()));
+        assertThat(itemIds(itemSearch.searchFree("дрель", TO, TO.plusDays(1), PageRequest.of(0, 10, Sort.by("id")))),
+                contains(perforator.getId(), cordless.getId(), drill.getId()));
+    }
+
+    @Test
+    void searchFullTextAfterTest() {
+        ItemSearch itemSearch = new FullTextItemSearch(itemRepository, corpusRanking);
+
+        var first = itemSearch.searchAfter("дрель", null, PageRequest.of(0, 2));
+        var after = Cursor.decode(Cursor.encode(cordless.getId()));
+        var last = itemSearch.searchAfter("дрель", after, PageRequest.of(0, 2));
+
+        assertThat(itemIds(first.getContent()), contains(perforator.getId(), cordless.getId()));
+        assertThat(first.hasNext(), is(true));
+        assertThat(itemIds(last.getContent()), contains(drill.getId()));
+        assertThat(last.hasNext(), is(false));
+    }
+
+    @Test
+    void searchVectorFollowsItemTest() {
+        assertThat(searchVector(drill), allOf(containsString("'дрел':1A"), containsString("'кейс':5B")));
+        assertThat(searchVector(tent), containsString("'четырехместн':2B"));
+
+        drill.setName("Шуруповёрт Bosch");
+        entityManager.flush();
+
+        assertThat(searchVector(drill), allOf(containsString("'шуруповерт':1A"), not(containsString("'дрел'"))));
+        assertThat(itemIds(itemRepository.searchFullText("шуруповерт", Pageable.unpaged())), contains(drill.getId()));
+    }
+
+    @Test
+    void matchTrigramTest() {
+        assertThat(rowIds(itemRepository.matchTrigram("дрел", null, null)),
+                contains(perforator.getId(), cordless.getId(), drill.getId()));
+        assertThat(rowIds(itemRepository.matchTrigram("дрел", owner.getId(), null)),
+                contains(perforator.getId(), drill.getId()));
+        assertThat(rowIds(itemRepository.matchTrigram("дрел", null, true)), contains(cordless.getId()));
+        assertThat(rowIds(itemRepository.matchTrigram("дрел", owner.getId(), false)),
+                contains(perforator.getId(), drill.getId()));
+        assertThat(rowIds(itemRepository.matchTrigramRanked("дрель", null, null)),
+                contains(drill.getId(), cordless.getId(), perforator.getId()));
+        assertThat(rowIds(itemRepository.matchTrigramFree("дрел", null, null, FROM, TO)),
+                contains(perforator.getId(), cordless.getId()));
+    }
+
+    @Test
+    void matchFullTextTest() {
+        assertThat(rowIds(itemRepository.matchFullText("дрель", null, null)),
+                contains(perforator.getId(), cordless.getId(), drill.getId()));
+        assertThat(rowIds(itemRepository.matchFullText("дрель", null, false)),
+                contains(perforator.getId(), drill.getId()));
+        assertThat(rowIds(itemRepository.matchFullTextRanked("дрель", owner.getId(), null)),
+                contains(drill.getId(), perforator.getId()));
+        assertThat(rowIds(itemRepository.matchFullTextFree("дрель", null, null, FROM, TO)),
+                contains(perforator.getId(), cordless.getId()));
+    }
+
+    @Test
+    void matchRowsTest() {
+        var matches = itemRepository.matchTrigram("аккумулятор", null, null).stream()
+                .map(ItemMapper::mapToItemMatch)
+                .collect(toList());
+
+        assertThat(matches, hasSize(1));
+        assertThat(matches.get(0).getId(), equalTo(cordless.getId()));
+        assertThat(matches.get(0).getOwnerId(), equalTo(cordless.getOwner().getId()));
+        assertThat(matches.get(0).getRequestId(), equalTo(cordless.getRequest().getId()));
+    }
+
+    private String searchVector(Item item) {
+        return (String) entityManager.getEntityManager()
+                .createNativeQuery("SELECT CAST(search_vector AS text) FROM items WHERE id = :id")
+                .setParameter("id", item.getId())
+                .getSingleResult();
+    }
+
+    private Item item(String name, String description, User owner, ItemRequest request, boolean available) {
+        return entityManager.persist(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .request(request)
+                .build());
+    }
+}
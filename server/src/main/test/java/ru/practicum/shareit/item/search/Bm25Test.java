@@ -0,0 +1,40 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static ru.practicum.shareit.item.search.SearchResults.documentIds;
+
+class Bm25Test {
+    private final List<Document> corpus = List.of(
+            new Document(1, "Лобзик", "Пилит ровно, не дрель", 1, null),
+            new Document(2, "Дрель Bosch", "Ударная, с кейсом", 1, null),
+            new Document(3, "Шуруповёрт", "Аккумуляторнаядрель", 1, null),
+            new Document(4, "Дрель", "Дрель Makita, дрель как новая", 1, null));
+
+    @Test
+    void nameMatchesRankAboveDescriptionMatchesTest() {
+        var top = Bm25.of(corpus).top(corpus, "дрель", 0, 10);
+
+        assertThat(documentIds(top), contains(4, 2, 1, 3));
+    }
+
+    @Test
+    void rareTermsWeighMoreTest() {
+        var top = Bm25.of(corpus).top(corpus, "дрель bosch", 0, 10);
+
+        assertThat(documentIds(top).get(0), is(2));
+    }
+
+    @Test
+    void topSkipsAndLimitsTest() {
+        var top = Bm25.of(corpus).top(corpus, "дрель", 1, 2);
+
+        assertThat(documentIds(top), contains(2, 1));
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.item.search.SearchResults.itemIds;
+import static ru.practicum.shareit.item.search.SearchResults.matchIds;
+
+class CorpusRankingTest {
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final CorpusRanking ranking = new CorpusRanking(itemRepository);
+    private final Item drill = item(1, "Дрель", "Дрель для дома");
+    private final Item makita = item(2, "Makita", "Аккумуляторная");
+
+    @Test
+    void rankWeighsTermsByCorpusFrequencyTest() {
+        ranking.saved(drill);
+        ranking.saved(makita);
+        for (int id = 10; id < 18; id++)
+            ranking.saved(item(id, "Дрель", "Ударная"));
+
+        assertThat(itemIds(ranking.rank(List.of(drill, makita), "дрель makita", null)),
+                contains(makita.getId(), drill.getId()));
+    }
+
+    @Test
+    void removedAndUnavailableLeaveStatisticsTest() {
+        ranking.saved(drill);
+        ranking.saved(makita);
+        for (int id = 10; id < 18; id++)
+            ranking.saved(item(id, "Дрель", "Ударная"));
+
+        ranking.removed(List.of(10, 11, 12, 13));
+        for (int id = 14; id < 18; id++) {
+            var unavailable = item(id, "Дрель", "Ударная");
+            unavailable.setAvailable(false);
+            ranking.saved(unavailable);
+        }
+
+        assertThat(itemIds(ranking.rank(List.of(makita, drill), "дрель makita", null)),
+                contains(drill.getId(), makita.getId()));
+    }
+
+    @Test
+    void rankKeepsCandidateOrderOnTiesAndPagesTest() {
+        var first = item(5, "Дрель", "Ударная");
+        var second = item(3, "Дрель", "Ударная");
+        var worse = item(4, "Набор сверл", "Дрель не входит, только сверла");
+
+        assertThat(itemIds(ranking.rank(List.of(worse, first, second), "дрель", PageRequest.of(0, 2))),
+                contains(first.getId(), second.getId()));
+        assertThat(itemIds(ranking.rank(List.of(worse, first, second), "дрель", PageRequest.of(1, 2))),
+                contains(worse.getId()));
+    }
+
+    @Test
+    void rankMatchesScoresHeadOnlyTest() {
+        when(itemRepository.findAllById(List.of(2, 1))).thenReturn(List.of(drill, makita));
+        var matches = List.of(new ItemMatch(2, 7, null), new ItemMatch(1, 7, null), new ItemMatch(9, 8, null));
+
+        assertThat(matchIds(ranking.rank(matches, "дрель", 2)), contains(1, 2, 9));
+    }
+
+    private static Item item(int id, String name, String description) {
+        return Item.builder().id(id).name(name).description(description).available(true).build();
+    }
+}
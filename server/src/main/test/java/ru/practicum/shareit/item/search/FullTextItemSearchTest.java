@@ -0,0 +1,121 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.utils.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextItemSearchTest {
+    @Mock
+    private ItemRepository itemRepository;
+    private ItemSearch itemSearch;
+
+    @BeforeEach
+    void initialize() {
+        itemSearch = new FullTextItemSearch(itemRepository, new CorpusRanking(itemRepository));
+    }
+
+    @Test
+    void searchDropsSortTest() {
+        itemSearch.search("дрель", PageRequest.of(2, 10, Sort.by("id")));
+
+        verify(itemRepository).searchFullText("дрель", PageRequest.of(2, 10));
+    }
+
+    @Test
+    void searchUnpagedTest() {
+        itemSearch.search("дрель", null);
+
+        verify(itemRepository).searchFullText("дрель", Pageable.unpaged());
+    }
+
+    @Test
+    void matchPassesFilterCriteriaTest() {
+        when(itemRepository.matchFullText("дрель", 7, false)).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 7L, null}));
+        when(itemRepository.matchFullTextRanked("дрель", null, true)).thenReturn(List.<Object[]>of(
+                new Object[]{3L, 8L, 30L}, new Object[]{2L, 9L, 20L}));
+        when(itemRepository.findAllById(List.of(3, 2))).thenReturn(List.of(
+                item(2, "Дрель", "Ударная дрель"), item(3, "Набор сверл", "Для дрели")));
+
+        assertEquals(List.of(new ItemMatch(1, 7, null)),
+                itemSearch.match("дрель", SearchSort.ID, false, SearchFilter.of(7, false, null)));
+        assertEquals(List.of(new ItemMatch(2, 9, 20), new ItemMatch(3, 8, 30)),
+                itemSearch.match("дрель", SearchSort.RELEVANCE, false, SearchFilter.of(null, true, null)));
+    }
+
+    @Test
+    void matchFreeTest() {
+        var from = LocalDateTime.of(2030, 1, 10, 12, 0);
+        var to = LocalDateTime.of(2030, 1, 12, 12, 0);
+
+        itemSearch.match("дрель", SearchSort.ID, false, SearchFilter.of(null, false, null, from, to));
+
+        verify(itemRepository).matchFullTextFree("дрель", null, false, from, to);
+    }
+
+    @Test
+    void searchAfterHasNextTest() {
+        when(itemRepository.searchFullTextAfter("drill", 5, 3)).thenReturn(items(6, 7, 8));
+
+        var slice = itemSearch.searchAfter("drill", Cursor.decode(Cursor.encode(5)), PageRequest.of(0, 2));
+
+        assertTrue(slice.hasNext());
+        assertEquals(List.of(6, 7), ids(slice.getContent()));
+    }
+
+    @Test
+    void searchAfterLastSliceTest() {
+        when(itemRepository.searchFullTextAfter("drill", 0, 3)).thenReturn(items(1, 2));
+
+        var slice = itemSearch.searchAfter("drill", null, PageRequest.of(0, 2));
+
+        assertFalse(slice.hasNext());
+        assertEquals(List.of(1, 2), ids(slice.getContent()));
+    }
+
+    @Test
+    void rankRescoresRankedCandidatesTest() {
+        when(itemRepository.searchFullTextRanked("дрель", PageRequest.ofSize(ItemSearch.RANK_CANDIDATES)))
+                .thenReturn(List.of(item(3, "Набор сверл", "Для дрели"), item(2, "Дрель", "Ударная дрель")));
+
+        assertEquals(List.of(2), ids(itemSearch.rank("дрель", PageRequest.of(0, 1))));
+        assertEquals(List.of(3), ids(itemSearch.rank("дрель", PageRequest.of(1, 1))));
+    }
+
+    private static Item item(int id, String name, String description) {
+        return Item.builder().id(id).name(name).description(description).available(true).build();
+    }
+
+    private static List<Item> items(int... ids) {
+        return IntStream.of(ids)
+                .mapToObj(id -> {
+                    var item = new Item();
+                    item.setId(id);
+                    return item;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        return items.stream().map(Item::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.Optional;
+
+import static java.time.LocalDateTime.now;
+import static java.util.List.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = "shareit.item.search=index")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class IndexedItemSearchTest {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ItemRequestService itemRequestService;
+    private final IndexedItemSearch indexedItemSearch;
+    private UserDto owner;
+    private ItemDto item;
+
+    @BeforeEach
+    void initialize() {
+        owner = userService.save(new UserDto(null, "owner", "owner@index.test"));
+        item = itemService.save(new ItemDto(null, "Аккумуляторнаядрель", "Zubr", true, owner.getId(), null),
+                null, owner.getId());
+    }
+
+    @AfterEach
+    void cleanup() {
+        userService.delete(owner.getId());
+    }
+
+    @Test
+    void searchFollowsCommittedChangesTest() {
+        var found = itemService.search("дрель", owner.getId(), null, null);
+        assertThat(found, hasSize(1));
+        assertThat(found.get(0).getId(), equalTo(item.getId()));
+        assertThat(found.get(0).getOwnerId(), equalTo(owner.getId()));
+
+        itemService.update(new ItemDto(item.getId(), "Перфоратор", null, null, owner.getId(), null), owner.getId());
+        assertThat(itemService.search("дрель", owner.getId(), null, null), empty());
+        assertThat(itemService.search("перфоратор", owner.getId(), 0, 10), hasSize(1));
+
+        itemService.update(new ItemDto(item.getId(), null, null, false, owner.getId(), null), owner.getId());
+        assertThat(itemService.search("перфоратор", owner.getId(), null, null), empty());
+    }
+
+    @Test
+    void rebuildLoadsAvailableItemsTest() {
+        indexedItemSearch.rebuild();
+
+        assertThat(itemService.searchAfter("zubr", owner.getId(), null, 10).getContent(), hasSize(1));
+    }
+
+    @Test
+    void searchForgetsItemsDeletedWithUsersTest() {
+        var lender = userService.save(new UserDto(null, "lender", "lender@index.test"));
+        var requester = userService.save(new UserDto(null, "requester", "requester@index.test"));
+        var request = itemRequestService.save(new ItemRequestDto(null, "Нужен шуруповёрт", requester.getId(),
+                now(), of()), requester.getId());
+        itemService.save(new ItemDto(null, "Шуруповёрт", "Makita", true, lender.getId(), null),
+                null, lender.getId());
+        itemService.save(new ItemDto(null, "Шуруповёрт", "Bosch", true, owner.getId(), request.getId()),
+                request, owner.getId());
+        assertThat(itemService.search("шуруповерт", owner.getId(), null, null), hasSize(2));
+
+        userService.delete(lender.getId());
+        userService.delete(requester.getId());
+
+        assertThat(itemService.search("шуруповерт", owner.getId(), null, null), empty());
+        assertThat(itemService.correct("шуруповерд"), equalTo(Optional.empty()));
+        assertThat(itemService.search("дрель", owner.getId(), null, null), hasSize(1));
+    }
+
+    @Test
+    void fuzzySearchTest() {
+        assertThat(itemService.search("zubrr", owner.getId(), null, null), empty());
+        assertThat(itemService.searchFuzzy("zubrr", SearchSort.ID, owner.getId(), null, null), hasSize(1));
+        assertThat(itemService.searchFuzzy("zubrr", SearchSort.RELEVANCE, owner.getId(), 0, 10), hasSize(1));
+        assertThat(itemService.correct("zubrr"), equalTo(Optional.of("zubr")));
+    }
+
+    @Test
+    void matchReadsDocumentsTest() {
+        var expected = new ItemMatch(item.getId(), owner.getId(), null);
+
+        assertThat(indexedItemSearch.match("дрель", SearchSort.RELEVANCE, false, SearchFilter.of(null, false, null)),
+                contains(expected));
+        assertThat(indexedItemSearch.match("zubrr", SearchSort.ID, true, SearchFilter.of(null, false, null)),
+                contains(expected));
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.FacetCountDto;
+import ru.practicum.shareit.item.dto.ItemMatch;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.item.search.SearchResults.matchIds;
+
+class ItemFacetsTest {
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final ItemFacets itemFacets = new ItemFacets(bookingRepository);
+    private final List<ItemMatch> matches = new ArrayList<>();
+
+    @BeforeEach
+    void initialize() {
+        matches.add(item(1, 10, null));
+        matches.add(item(2, 10, 100));
+        matches.add(item(3, 20, 100));
+        matches.add(item(4, 30, null));
+        var now = LocalDateTime.now();
+        when(bookingRepository.findIntervalsByItemIds(any(), any(), any(), any())).thenReturn(List.of(
+                interval(1, now.minusHours(1), now.plusHours(1)),
+                interval(2, now.plusDays(3), now.plusDays(4)),
+                interval(3, now.plusDays(20), now.plusDays(21))));
+    }
+
+    @Test
+    void countTest() {
+        var facets = itemFacets.count(matches, SearchFilter.NONE);
+
+        assertThat(facets.getTotal(), equalTo(4));
+        assertThat(facets.getOwner(), contains(new FacetCountDto("10", 2), new FacetCountDto("20", 1),
+                new FacetCountDto("30", 1)));
+        assertThat(facets.getRequest(), contains(new FacetCountDto("true", 2), new FacetCountDto("false", 2)));
+        assertThat(facets.getWindow(), contains(new FacetCountDto("now", 3), new FacetCountDto("week", 2),
+                new FacetCountDto("month", 1)));
+    }
+
+    @Test
+    void countExceptOwnFilterTest() {
+        var facets = itemFacets.count(matches, SearchFilter.of(10, true, null));
+
+        assertThat(facets.getTotal(), equalTo(1));
+        assertThat(facets.getOwner(), contains(new FacetCountDto("10", 1), new FacetCountDto("20", 1)));
+        assertThat(facets.getRequest(), contains(new FacetCountDto("true", 1), new FacetCountDto("false", 1)));
+    }
+
+    @Test
+    void countKeepsSelectedOwnerTest() {
+        var facets = itemFacets.count(matches, SearchFilter.of(40, null, null));
+
+        assertThat(facets.getTotal(), equalTo(0));
+        assertThat(facets.getOwner(), hasItem(new FacetCountDto("40", 0)));
+    }
+
+    @Test
+    void filterTest() {
+        assertThat(matchIds(itemFacets.filter(matches, SearchFilter.of(null, false, "now"), 0, 10)), contains(4));
+        assertThat(matchIds(itemFacets.filter(matches, SearchFilter.of(null, null, "week"), 0, 10)), contains(3, 4));
+        assertThat(matchIds(itemFacets.filter(matches, SearchFilter.of(10, null, null), 1, 10)), contains(2));
+        verify(bookingRepository, times(2)).findIntervalsByItemIds(any(), any(), any(), any());
+    }
+
+    private static ItemMatch item(int id, int ownerId, Integer requestId) {
+        return new ItemMatch(id, ownerId, requestId);
+    }
+
+    private static BookingIntervalView interval(int itemId, LocalDateTime start, LocalDateTime end) {
+        return new BookingIntervalView() {
+            @Override
+            public Integer getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public LocalDateTime getStart() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return end;
+            }
+        };
+    }
+}
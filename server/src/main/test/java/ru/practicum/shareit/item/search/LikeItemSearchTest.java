@@ -0,0 +1,44 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.item.search.SearchResults.itemIds;
+
+@ExtendWith(MockitoExtension.class)
+class LikeItemSearchTest {
+    @Mock
+    private ItemRepository itemRepository;
+    private ItemSearch itemSearch;
+
+    @BeforeEach
+    void initialize() {
+        itemSearch = new LikeItemSearch(itemRepository, new CorpusRanking(itemRepository));
+    }
+
+    @Test
+    void rankScoresAllMatchesTest() {
+        when(itemRepository.search("дрель"))
+                .thenReturn(List.of(
+                        item(1, "Набор сверл", "Для дрели и шуруповёрта, дрель не входит"),
+                        item(2, "Дрель", "Ударная дрель"),
+                        item(3, "Дрель Bosch", "Почти новая")));
+
+        assertEquals(List.of(2, 3), itemIds(itemSearch.rank("дрель", PageRequest.of(0, 2))));
+        assertEquals(List.of(1), itemIds(itemSearch.rank("дрель", PageRequest.of(1, 2))));
+    }
+
+    private static Item item(int id, String name, String description) {
+        return Item.builder().id(id).name(name).description(description).available(true).build();
+    }
+}
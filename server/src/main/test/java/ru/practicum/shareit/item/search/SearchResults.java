@@ -0,0 +1,32 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.dto.ItemMatch;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reduces search results to their item ids, so that tests can assert which items matched and in
+ * what order.
+ */
+public class SearchResults {
+    public static List<Integer> itemIds(List<Item> items) {
+        return items.stream().map(Item::getId).collect(toList());
+    }
+
+    public static List<Integer> matchIds(List<ItemMatch> matches) {
+        return matches.stream().map(ItemMatch::getId).collect(toList());
+    }
+
+    public static List<Integer> rowIds(List<Object[]> rows) {
+        return rows.stream().map(row -> ItemMapper.mapToItemMatch(row).getId()).collect(toList());
+    }
+
+    static List<Integer> documentIds(List<Document> documents) {
+        return documents.stream().map(document -> document.id).collect(toList());
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class WordDictionaryTest {
+    private final WordDictionary dictionary = new WordDictionary();
+
+    @Test
+    void similarTest() {
+        dictionary.add("дрель");
+        dictionary.add("дрели");
+        dictionary.add("дрели");
+        dictionary.add("дрова");
+
+        assertThat(similar("дрел", 1), equalTo(Map.of("дрель", 1, "дрели", 2)));
+        assertThat(similar("дрелл", 2), equalTo(Map.of("дрель", 1, "дрели", 2)));
+        assertThat(similar("пила", 2), anEmptyMap());
+    }
+
+    @Test
+    void transpositionIsOneEditTest() {
+        dictionary.add("лобзик");
+
+        assertThat(similar("лобизк", 1), hasKey("лобзик"));
+    }
+
+    @Test
+    void removeTest() {
+        dictionary.add("дрель");
+        dictionary.add("дрель");
+        dictionary.add("дрелька");
+
+        dictionary.remove("дрель");
+        assertThat(dictionary.frequency("дрель"), equalTo(1));
+        dictionary.remove("дрель");
+        dictionary.remove("дрель");
+
+        assertThat(dictionary.frequency("дрель"), equalTo(0));
+        assertThat(dictionary.size(), equalTo(1));
+        assertThat(similar("дрелька", 2), equalTo(Map.of("дрелька", 1)));
+        dictionary.remove("дрелька");
+        assertThat(similar("дрелька", 2), anEmptyMap());
+    }
+
+    @Test
+    void correctTest() {
+        dictionary.add("drill");
+        dictionary.add("grill");
+        dictionary.add("grill");
+        dictionary.add("hammer");
+
+        assertThat(dictionary.correct("drll"), equalTo(Optional.of("drill")));
+        assertThat(dictionary.correct("brill"), equalTo(Optional.of("grill")));
+        assertThat(dictionary.correct("hamnre"), equalTo(Optional.of("hammer")));
+        assertThat(dictionary.correct("drill"), equalTo(Optional.empty()));
+        assertThat(dictionary.correct("saw"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void editsTest() {
+        assertThat(WordDictionary.edits(2), equalTo(0));
+        assertThat(WordDictionary.edits(5), equalTo(1));
+        assertThat(WordDictionary.edits(6), equalTo(2));
+    }
+
+    private Map<String, Integer> similar(String word, int edits) {
+        var similar = new HashMap<String, Integer>();
+        dictionary.similar(word, edits, similar::put);
+        return similar;
+    }
+}
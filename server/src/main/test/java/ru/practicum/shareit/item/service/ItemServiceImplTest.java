@@ -1,11 +1,15 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.item.dto.FacetCountDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.search.SearchFilter;
+import ru.practicum.shareit.item.search.SearchSort;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
 import ru.practicum.shareit.booking.dto.BookingSavingDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
@@ -16,14 +20,18 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.utils.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 
 import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
 import javax.transaction.Transactional;
 import javax.validation.ValidationException;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,6 +42,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static java.time.LocalDateTime.*;
 import static org.hamcrest.Matchers.*;
 import static java.util.List.*;
+import static java.util.stream.Collectors.toList;
+import static ru.practicum.shareit.utils.QueryCountAssertions.assertMaxQueries;
 
 @Transactional
 @SpringBootTest
@@ -69,7 +79,7 @@ class ItemServiceImplTest {
 
     private CommentDto saveCommentDto(String commentText, UserDto userDto) {
         var booker = userService.save(userDto);
-        bookingService.save(
+        var booking = bookingService.save(
                 new BookingSavingDto(
                         null,
                         now().minusSeconds(2),
@@ -89,6 +99,7 @@ class ItemServiceImplTest {
                         of()),
                 booker.getId()
         );
+        bookingService.approve(booking.getId(), true, itemDto.getOwnerId());
         var commentDto = new CommentDto(
                 null,
                 commentText,
@@ -138,6 +149,33 @@ class ItemServiceImplTest {
         assertThat(item.getId(), notNullValue());
     }
 
+    @Test
+    void updateStaleItemTest() {
+        entityManager.flush();
+        entityManager.clear();
+        var stale = entityManager.find(Item.class, itemDto.getId());
+        entityManager.detach(stale);
+        itemService.update(new ItemDto(itemDto.getId(), "Bear", null, null, userDto.getId(), null),
+                itemDto.getOwnerId());
+        entityManager.flush();
+        stale.setName("Fox");
+        assertThrows(OptimisticLockException.class, () -> {
+            entityManager.merge(stale);
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void getBookingViewTest() {
+        var view = itemService.getBookingView(itemDto.getId());
+        assertThat(view.getId(), equalTo(itemDto.getId()));
+        assertThat(view.getOwnerId(), equalTo(userDto.getId()));
+        assertThat(view.getAvailable(), equalTo(itemDto.getAvailable()));
+        assertThat(view.getName(), equalTo(itemDto.getName()));
+        var exception = assertThrows(NotFoundException.class, () -> itemService.getBookingView(-1));
+        assertEquals("Item with id#-1 does not exist", exception.getMessage());
+    }
+
     @Test
     void getTest() {
         var itemAllFieldsDto = itemService.get(itemDto.getId(), itemDto.getOwnerId());
@@ -182,6 +220,94 @@ class ItemServiceImplTest {
         assertThat(items.size(), equalTo(allItems.size()));
     }
 
+    @Test
+    void getAllAfterCursorTest() {
+        var second = itemService.save(
+                new ItemDto(
+                        null,
+                        "Doll",
+                        "Tall doll",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var firstPage = itemService.getAllItemsAfter(userDto.getId(), null, 1);
+        assertThat(firstPage.getContent().size(), equalTo(1));
+        assertThat(firstPage.getContent().get(0).getId(), equalTo(itemDto.getId()));
+        assertTrue(firstPage.hasNext());
+        var secondPage = itemService.getAllItemsAfter(userDto.getId(),
+                Cursor.next(firstPage, item -> Cursor.encode(item.getId())), 1);
+        assertThat(secondPage.getContent().get(0).getId(), equalTo(second.getId()));
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    void getAllWithLastAndNextBookingTest() {
+        var booker = userService.save(
+                new UserDto(
+                        null,
+                        "Ann",
+                        "ann@mail.com")
+        );
+        var itemAllFieldsDto = new ItemAllFieldsDto(
+                itemDto.getId(),
+                itemDto.getName(),
+                itemDto.getDescription(),
+                true,
+                userDto.getId(),
+                null,
+                null,
+                null,
+                of());
+        var last = bookingService.save(
+                new BookingSavingDto(null, now().minusSeconds(2), now().minusSeconds(1),
+                        itemDto.getId(), booker.getId(), null),
+                itemAllFieldsDto,
+                booker.getId());
+        var next = bookingService.save(
+                new BookingSavingDto(null, now().plusHours(1), now().plusHours(2),
+                        itemDto.getId(), booker.getId(), null),
+                itemAllFieldsDto,
+                booker.getId());
+        entityManager.flush();
+        entityManager.clear();
+        var allItems = assertMaxQueries(3, () -> itemService.getAllItems(userDto.getId(), null, null));
+        assertThat(allItems.size(), equalTo(1));
+        assertThat(allItems.get(0).getLastBooking().getId(), equalTo(last.getId()));
+        assertThat(allItems.get(0).getNextBooking().getId(), equalTo(next.getId()));
+        assertThat(allItems.get(0).getComments(), empty());
+    }
+
+    @Test
+    void getAllKeepsRejectedNextBookingTest() {
+        var booker = userService.save(
+                new UserDto(
+                        null,
+                        "Ann",
+                        "ann@mail.com")
+        );
+        var itemAllFieldsDto = new ItemAllFieldsDto(
+                itemDto.getId(),
+                itemDto.getName(),
+                itemDto.getDescription(),
+                true,
+                userDto.getId(),
+                null,
+                null,
+                null,
+                of());
+        var next = bookingService.save(
+                new BookingSavingDto(null, now().plusHours(1), now().plusHours(2),
+                        itemDto.getId(), booker.getId(), null),
+                itemAllFieldsDto,
+                booker.getId());
+        bookingService.approve(next.getId(), false, userDto.getId());
+        var allItems = itemService.getAllItems(userDto.getId(), null, null);
+        assertThat(allItems.get(0).getNextBooking().getId(), equalTo(next.getId()));
+    }
+
     @Test
     void searchNotAvailableItemTest() {
         itemDto = itemService.save(
@@ -234,6 +360,134 @@ class ItemServiceImplTest {
         assertThat(items.size(), equalTo(itemDtos.size()));
     }
 
+    @Test
+    void searchByRelevanceTest() {
+        var inDescription = itemService.save(
+                new ItemDto(null, "Trailer", "Tows a wakeboat", true, userDto.getId(), null),
+                null,
+                userDto.getId());
+        var inName = itemService.save(
+                new ItemDto(null, "Wakeboat", "Fast", true, userDto.getId(), null),
+                null,
+                userDto.getId());
+
+        var itemDtos = itemService.searchByRelevance("wakeboat", userDto.getId(), 0, 10);
+
+        assertThat(itemDtos.stream().map(ItemDto::getId).collect(toList()),
+                contains(inName.getId(), inDescription.getId()));
+        assertThat(itemService.searchByRelevance("wakeboat", userDto.getId(), 1, 1).get(0).getId(),
+                equalTo(inDescription.getId()));
+    }
+
+    @Test
+    void facetsAndFilteredSearchTest() {
+        var other = userService.save(new UserDto(null, "Ann", "ann@mail.com"));
+        var booker = userService.save(new UserDto(null, "Bob", "bob@mail.com"));
+        var kayak = itemService.save(
+                new ItemDto(null, "Kayak", "Sea kayak", true, userDto.getId(), null),
+                null,
+                userDto.getId());
+        var otherKayak = itemService.save(
+                new ItemDto(null, "Double kayak", "Two seats", true, other.getId(), null),
+                null,
+                other.getId());
+        book(kayak, booker, now().plusDays(1), now().plusDays(2));
+
+        var facets = itemService.facets("kayak", false, SearchFilter.NONE, userDto.getId());
+
+        assertThat(facets.getTotal(), equalTo(2));
+        assertThat(facets.getOwner(), containsInAnyOrder(
+                new FacetCountDto(userDto.getId().toString(), 1), new FacetCountDto(other.getId().toString(), 1)));
+        assertThat(facets.getRequest(), contains(new FacetCountDto("true", 0), new FacetCountDto("false", 2)));
+        assertThat(facets.getWindow(), contains(new FacetCountDto("now", 2), new FacetCountDto("week", 1),
+                new FacetCountDto("month", 1)));
+
+        var week = SearchFilter.of(null, null, "week");
+        assertThat(itemService.searchFiltered("kayak", SearchSort.ID, false, week, userDto.getId(), null, null)
+                .stream().map(ItemDto::getId).collect(toList()), contains(otherKayak.getId()));
+        var byOwner = itemService.facets("kayak", false, SearchFilter.of(userDto.getId(), null, null), userDto.getId());
+        assertThat(byOwner.getTotal(), equalTo(1));
+        assertThat(byOwner.getOwner(), hasSize(2));
+        assertThat(byOwner.getWindow(), hasItem(new FacetCountDto("week", 0)));
+
+        var otherNotAnswering = SearchFilter.of(other.getId(), false, null);
+        assertThat(itemService.searchFiltered("kayak", SearchSort.ID, false, otherNotAnswering, userDto.getId(), 0, 10),
+                contains(otherKayak));
+        var answering = SearchFilter.of(null, true, null);
+        assertThat(itemService.searchFiltered("kayak", SearchSort.ID, false, answering, userDto.getId(), 0, 10),
+                empty());
+        var mine = SearchFilter.of(userDto.getId(), null, null);
+        assertThat(itemService.searchFiltered("kayak", SearchSort.RELEVANCE, false, mine, userDto.getId(), 0, 10),
+                contains(kayak));
+    }
+
+    @Test
+    void searchFreeTest() {
+        var booker = userService.save(new UserDto(null, "Bob", "bob@mail.com"));
+        var from = now().plusDays(10).truncatedTo(ChronoUnit.SECONDS);
+        var to = from.plusDays(2);
+        var approved = saveItem("Canoe red");
+        var rejected = saveItem("Canoe blue");
+        var waiting = saveItem("Canoe green");
+        var later = saveItem("Canoe white");
+        var adjacent = saveItem("Canoe black");
+        var free = saveItem("Canoe yellow");
+        bookingService.approve(book(approved, booker, from.minusDays(1), from.plusHours(1)).getId(), true,
+                userDto.getId());
+        bookingService.approve(book(rejected, booker, from, to).getId(), false, userDto.getId());
+        book(waiting, booker, to.minusHours(1), to.plusDays(1));
+        book(later, booker, to.plusDays(1), to.plusDays(2));
+        book(adjacent, booker, to, to.plusDays(1));
+        var period = SearchFilter.of(null, null, null, from, to);
+
+        assertThat(itemService.searchFiltered("canoe", SearchSort.ID, false, period, userDto.getId(), null, null)
+                        .stream().map(ItemDto::getId).collect(toList()),
+                contains(rejected.getId(), later.getId(), adjacent.getId(), free.getId()));
+        assertThat(itemService.searchFiltered("canoe", SearchSort.ID, false, period, userDto.getId(), 2, 2)
+                        .stream().map(ItemDto::getId).collect(toList()),
+                contains(adjacent.getId(), free.getId()));
+        var periodAndOwner = SearchFilter.of(userDto.getId(), null, null, from, to);
+        assertThat(itemService.searchFiltered("canoe", SearchSort.ID, false, periodAndOwner, userDto.getId(), 0, 10),
+                hasSize(4));
+        assertThat(itemService.facets("canoe", false, period, userDto.getId()).getTotal(), equalTo(4));
+        assertThrows(ValidationException.class, () -> itemService.searchFiltered("canoe", SearchSort.RELEVANCE,
+                false, period, userDto.getId(), 0, 10));
+    }
+
+    private ItemDto saveItem(String name) {
+        return itemService.save(new ItemDto(null, name, name, true, userDto.getId(), null), null, userDto.getId());
+    }
+
+    private BookingAllFieldsDto book(ItemDto item, UserDto booker, LocalDateTime start, LocalDateTime end) {
+        return bookingService.save(
+                new BookingSavingDto(null, start, end, item.getId(), booker.getId(), null),
+                new ItemAllFieldsDto(item.getId(), item.getName(), item.getDescription(), true,
+                        item.getOwnerId(), null, null, null, of()),
+                booker.getId());
+    }
+
+    @Test
+    void searchAfterCursorTest() {
+        var second = itemService.save(
+                new ItemDto(
+                        null,
+                        "Pencil",
+                        "Red pencil",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var firstPage = itemService.searchAfter("pen", userDto.getId(), "", 1);
+        assertThat(firstPage.getContent().get(0).getId(), equalTo(itemDto.getId()));
+        assertTrue(firstPage.hasNext());
+        var secondPage = itemService.searchAfter("pen", userDto.getId(),
+                Cursor.next(firstPage, item -> Cursor.encode(item.getId())), 1);
+        assertThat(secondPage.getContent().get(0).getId(), equalTo(second.getId()));
+        assertFalse(secondPage.hasNext());
+    }
+
     @Test
     void searchNotPagableTest() {
         itemDto = itemService.save(
@@ -347,6 +601,20 @@ class ItemServiceImplTest {
         assertThat(comment.getId(), notNullValue());
     }
 
+    @Test
+    void saveCommentWithoutApprovedBookingTest() {
+        var booker = userService.save(new UserDto(null, "Mia", "mia@mail.com"));
+        bookingService.save(
+                new BookingSavingDto(null, now().minusSeconds(2), now().minusSeconds(1), itemDto.getId(),
+                        booker.getId(), null),
+                itemDto,
+                booker.getId());
+        var commentDto = new CommentDto(null, "Not yet", itemDto.getId(), booker.getName(), now());
+        var exception = assertThrows(ValidationException.class,
+                () -> itemService.saveComment(commentDto, itemDto.getId(), booker.getId()));
+        assertEquals("User cannot make comments", exception.getMessage());
+    }
+
     @Test
     void getItemByRequestTest() {
         List<ItemRequest> items = new ArrayList<>();
@@ -3,9 +3,16 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.search.CorpusRanking;
+import ru.practicum.shareit.item.search.ItemFacets;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSuggestions;
+import ru.practicum.shareit.item.search.LikeItemSearch;
+import ru.practicum.shareit.item.search.SearchCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utils.OptimisticRetry;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static ru.practicum.shareit.item.mapper.ItemMapper.mapToItemDto;
 import static ru.practicum.shareit.item.mapper.ItemMapper.mapToItem;
@@ -38,11 +46,11 @@ class ItemServiceUnitTest {
     @Mock
     private UserService userService;
     @Mock
-    private BookingService bookingService;
-    @Mock
     private UserRepository userRepository;
     @Mock
     private BookingRepository bookingRepository;
+    @Mock
+    private OptimisticRetry optimisticRetry;
     private ItemService itemService;
     private ItemDto itemDto;
     private UserDto userDto;
@@ -54,9 +62,13 @@ class ItemServiceUnitTest {
                     itemRepository,
                     commentRepository,
                     userService,
-                    bookingService,
                     userRepository,
-                    bookingRepository
+                    bookingRepository,
+                    optimisticRetry,
+                    new LikeItemSearch(itemRepository, new CorpusRanking(itemRepository)),
+                    new ItemSearchCache(new SearchCacheProperties(), new SimpleMeterRegistry()),
+                    new ItemSuggestions(itemRepository, 10),
+                    new ItemFacets(bookingRepository)
         );
         userDto = new UserDto(
                 1,
@@ -89,6 +101,8 @@ class ItemServiceUnitTest {
 
     @Test
     void updateTest() {
+        when(optimisticRetry.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
         var dto = saveItemDto();
         var updated = new Item(
                 dto.getId(),
@@ -7,6 +7,7 @@ import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.utils.Cursor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +16,9 @@ import org.junit.jupiter.api.Test;
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
@@ -150,6 +153,27 @@ class ItemRequestServiceImplTest {
 
 
 
+    @Test
+    void getAllItemRequestsAfterCursorTest() {
+        saveItemRequests();
+        var userDto = userService.save(
+                new UserDto(
+                        null,
+                        "Clare",
+                        "clare@mail.com")
+        );
+        entityManager.flush();
+        entityManager.clear();
+        var firstPage = itemRequestService.getAllItemRequestsAfter(null, 1, userDto.getId());
+        assertThat(firstPage.getContent().size(), equalTo(1));
+        assertTrue(firstPage.hasNext());
+        var cursor = Cursor.next(firstPage, request -> Cursor.encode(request.getCreated(), request.getId()));
+        var secondPage = itemRequestService.getAllItemRequestsAfter(cursor, 1, userDto.getId());
+        assertThat(secondPage.getContent().size(), equalTo(1));
+        assertNotEquals(firstPage.getContent().get(0).getId(), secondPage.getContent().get(0).getId());
+        assertFalse(secondPage.hasNext());
+    }
+
     @Test
     void getAllItemRequests2Test() {
         saveItemRequests();
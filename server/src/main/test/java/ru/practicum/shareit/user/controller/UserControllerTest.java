@@ -1,17 +1,20 @@
 package ru.practicum.shareit.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.user.UserController;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utils.QueryCountConfiguration;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -21,8 +24,10 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ru.practicum.shareit.utils.QueryCountFilter.HEADER_QUERY_COUNT;
 
 @WebMvcTest(controllers = UserController.class)
+@Import({QueryCountConfiguration.class, SimpleMeterRegistry.class})
 class UserControllerTest {
 
     @Autowired
@@ -142,6 +147,7 @@ class UserControllerTest {
         doNothing().when(mockUserService).delete(anyInt());
 
         mvc.perform(delete("/users/1"))
+                .andExpect(header().exists(HEADER_QUERY_COUNT))
                 .andExpect(status().isOk());
 
         verify(mockUserService, times(1)).delete(anyInt());
@@ -1,7 +1,9 @@
 package ru.practicum.shareit.user.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utils.OptimisticRetry;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static ru.practicum.shareit.user.mapper.UserMapper.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,13 +28,17 @@ class UserServiceUnitTest {
     private UserRepository userRepository;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private OptimisticRetry optimisticRetry;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     private UserService userService;
     private UserDto userDto;
     private User user;
 
     @BeforeEach
     void initialize() {
-        userService = new UserService(userRepository, userMapper);
+        userService = new UserService(userRepository, userMapper, optimisticRetry, eventPublisher);
         userDto = UserDto.builder()
                 .id(1)
                 .name("Paul")
@@ -39,6 +47,11 @@ class UserServiceUnitTest {
         user = toUser(userDto);
     }
 
+    private void runRetryInline() {
+        when(optimisticRetry.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @Test
     void saveTest() {
         when(userRepository.save(any()))
@@ -60,6 +73,7 @@ class UserServiceUnitTest {
 
     @Test
     void updateUserNameTest() {
+        runRetryInline();
         var userDto1 = new UserDto(1, "Daniel", null);
         var userDto2 = new UserDto(1, "Daniel", userDto.getEmail());
         when(userRepository.save(any()))
@@ -77,6 +91,7 @@ class UserServiceUnitTest {
 
     @Test
     void updateTest() {
+        runRetryInline();
         var updatedUser = new UserDto(
                 1,
                 "Nagel",
@@ -104,6 +119,7 @@ class UserServiceUnitTest {
 
     @Test
     void updateUserEmailTest() {
+        runRetryInline();
         var userDto1 = new UserDto(1, null, "john@mail.com");
         var userDto2 = new UserDto(1, userDto.getName(), "john@mail.com");
         when(userRepository.save(any()))
@@ -121,6 +137,7 @@ class UserServiceUnitTest {
 
     @Test
     void updateUserSameEmailTest() {
+        runRetryInline();
         var dto = new UserDto(2, "Paul", "paul@mail.com");
         when(userRepository.findById(any()))
                 .thenReturn(ofNullable(toUser(dto)));
@@ -141,5 +158,6 @@ class UserServiceUnitTest {
         userService.delete(dto.getId());
         verify(userRepository, times(1))
                 .deleteById(user.getId());
+        verify(eventPublisher).publishEvent(new UserDeletedEvent(user.getId()));
     }
 }
\ No newline at end of file
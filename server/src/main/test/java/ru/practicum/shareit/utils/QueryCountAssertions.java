@@ -0,0 +1,19 @@
+package ru.practicum.shareit.utils;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins the number of SQL statements a block may issue. Flush and clear the persistence context
+ * first, otherwise pending writes from the test setup are counted as well.
+ */
+public class QueryCountAssertions {
+    public static <T> T assertMaxQueries(int max, Supplier<T> action) {
+        QueryCounter.reset();
+        var result = action.get();
+        var count = QueryCounter.count();
+        assertTrue(count <= max, "Expected at most " + max + " SQL statements, but " + count + " were issued");
+        return result;
+    }
+}
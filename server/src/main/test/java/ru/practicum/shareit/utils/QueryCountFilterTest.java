@@ -0,0 +1,92 @@
+package ru.practicum.shareit.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static ru.practicum.shareit.utils.QueryCountFilter.HEADER_QUERY_COUNT;
+
+class QueryCountFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountFilter filter = new QueryCountFilter(meterRegistry, true);
+
+    @Test
+    void recordsStatementsPerEndpointTest() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/items/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+        var counter = new QueryCounter();
+        var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                counter.inspect("select 1");
+                counter.inspect("select 2");
+            }
+        });
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        var summary = meterRegistry.get(QueryCountFilter.METRIC)
+                .tag("method", "GET")
+                .tag("uri", "/items/{itemId}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void setsHeaderWithoutBodyTest() throws Exception {
+        var response = new MockHttpServletResponse();
+        var counter = new QueryCounter();
+        var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+                counter.inspect("delete from users where id=?");
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/users/1"), response, chain);
+
+        assertEquals("1", response.getHeader(HEADER_QUERY_COUNT));
+    }
+
+    @Test
+    void setsHeaderBeforeCommitTest() throws Exception {
+        var response = new MockHttpServletResponse();
+        var counter = new QueryCounter();
+        var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                counter.inspect("select 1");
+                resp.getWriter().write("[]");
+                resp.flushBuffer();
+                counter.inspect("select 2");
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/users"), response, chain);
+
+        assertEquals("1", response.getHeader(HEADER_QUERY_COUNT));
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void omitsHeaderWhenOffTest() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        new QueryCountFilter(meterRegistry, false)
+                .doFilter(new MockHttpServletRequest("DELETE", "/users/1"), response, new MockFilterChain());
+
+        assertNull(response.getHeader(HEADER_QUERY_COUNT));
+    }
+}
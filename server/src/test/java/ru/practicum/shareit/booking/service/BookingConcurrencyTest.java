@@ -0,0 +1,144 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingSavingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.ConflictException;
+import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.validation.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.LocalDateTime.now;
+import static java.util.List.of;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.practicum.shareit.booking.model.BookingStatus.APPROVED;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingConcurrencyTest {
+    private static final int THREADS = 8;
+
+    private final BookingService bookingService;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final List<Integer> userIds = new ArrayList<>();
+    private UserDto owner;
+    private ItemAllFieldsDto item;
+
+    @BeforeEach
+    void initialize() {
+        owner = saveUser("owner");
+        var itemDto = itemService.save(new ItemDto(null, "drill", "cordless", true, owner.getId(), null),
+                null, owner.getId());
+        item = new ItemAllFieldsDto(itemDto.getId(), itemDto.getName(), itemDto.getDescription(), true,
+                owner.getId(), null, null, null, of());
+    }
+
+    @AfterEach
+    void cleanup() {
+        bookingRepository.deleteAll(bookingRepository.findAll());
+        itemRepository.deleteById(item.getId());
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    void approveOverlappingBookingsConcurrentlyTest() throws Exception {
+        var bookingIds = new ArrayList<Integer>();
+        for (int i = 0; i < THREADS; i++)
+            bookingIds.add(saveBooking(saveUser("booker" + i).getId()));
+
+        var approved = runConcurrently(bookingIds.stream()
+                .map(id -> (Callable<Object>) () -> bookingService.approve(id, true, owner.getId()))
+                .collect(toList()));
+
+        assertThat(approved, equalTo(1));
+        assertThat(countApproved(), equalTo(1L));
+    }
+
+    @Test
+    void approveSameBookingConcurrentlyTest() throws Exception {
+        var bookingId = saveBooking(saveUser("booker").getId());
+        var tasks = new ArrayList<Callable<Object>>();
+        for (int i = 0; i < THREADS; i++)
+            tasks.add(() -> bookingService.approve(bookingId, true, owner.getId()));
+
+        assertThat(runConcurrently(tasks), equalTo(1));
+        assertThat(countApproved(), equalTo(1L));
+    }
+
+    /**
+     * Runs the tasks at once and counts those that won the race. A failure other than the losing side's
+     * conflict fails the test, as does a task still running after the timeout.
+     */
+    private int runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        var executor = Executors.newFixedThreadPool(tasks.size());
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Boolean>>();
+        for (var task : tasks)
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    task.call();
+                    return true;
+                } catch (ConflictException | ValidationException e) {
+                    return false;
+                }
+            }));
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        var succeeded = 0;
+        for (var result : results)
+            if (result.get())
+                succeeded++;
+        return succeeded;
+    }
+
+    private long countApproved() {
+        return bookingRepository.findAll().stream()
+                .map(Booking::getStatus)
+                .filter(APPROVED::equals)
+                .count();
+    }
+
+    private UserDto saveUser(String name) {
+        var user = userService.save(new UserDto(null, name, name + "@concurrency.test"));
+        userIds.add(user.getId());
+        return user;
+    }
+
+    private Integer saveBooking(Integer bookerId) {
+        var booking = BookingSavingDto.builder()
+                .start(now().plusDays(1))
+                .end(now().plusDays(2))
+                .itemId(item.getId())
+                .build();
+        return bookingService.save(booking, item, bookerId).getId();
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AnalyzerTest {
+
+    @Test
+    void russianInflectionsShareTermTest() {
+        assertThat(Analyzer.terms("дрель"), equalTo(Analyzer.terms("Дрели")));
+        assertThat(Analyzer.terms("дрелью"), equalTo(Analyzer.terms("дрель")));
+    }
+
+    @Test
+    void englishInflectionsShareTermTest() {
+        assertThat(Analyzer.terms("drills"), equalTo(Analyzer.terms("Drill")));
+        assertThat(Analyzer.terms("tents"), equalTo(Analyzer.terms("tent")));
+    }
+
+    @Test
+    void yoFoldedTest() {
+        assertThat(Analyzer.normalize("Ёлка"), equalTo("елка"));
+        assertThat(Analyzer.terms("шуруповёрт"), equalTo(Analyzer.terms("шуруповерт")));
+    }
+
+    @Test
+    void stopWordsDroppedTest() {
+        assertThat(Analyzer.terms("дрель и лобзик"), hasSize(2));
+        assertThat(Analyzer.terms("the drill and a saw"), hasSize(2));
+        assertThat(Analyzer.terms("и в на"), empty());
+    }
+
+    @Test
+    void numbersKeptTest() {
+        assertThat(Analyzer.terms("Bosch 18V 2000"), hasItem("2000"));
+    }
+
+    @Test
+    void cacheBoundedTest() {
+        for (int i = 0; i < Analyzer.CACHE_SIZE + 1_000; i++)
+            Analyzer.terms("zz" + i);
+
+        assertThat(Analyzer.cachedWords(), lessThanOrEqualTo((long) Analyzer.CACHE_SIZE));
+        assertThat(Analyzer.terms("дрели"), equalTo(Analyzer.terms("дрель")));
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.search.InvertedIndex.Document;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static ru.practicum.shareit.item.search.SearchResults.documentIds;
+
+class InvertedIndexTest {
+    private InvertedIndex index;
+
+    @BeforeEach
+    void initialize() {
+        index = new InvertedIndex();
+        index.put(new Document(1, "Дрель Bosch", "Дрель Bosch, в отличном состоянии", 1, null));
+        index.put(new Document(2, "Шуруповёрт Makita", "Аккумуляторнаядрель с зарядкой", 1, 7));
+        index.put(new Document(3, "Hammer drill", "DeWALT hammer drill, barely used", 2, null));
+        index.put(new Document(4, "Лобзик", "Пилит ровно", 2, null));
+    }
+
+    @Test
+    void findInfixTest() {
+        assertThat(documentIds(index.find("ДРЕЛЬ", 0, 0, 10)), contains(1, 2));
+        assertThat(documentIds(index.find("рел", 0, 0, 10)), contains(1, 2));
+        assertThat(documentIds(index.find("ill, bar", 0, 0, 10)), contains(3));
+    }
+
+    @Test
+    void findShortTextScansTest() {
+        assertThat(documentIds(index.find("о", 0, 0, 10)), contains(1, 2, 4));
+        assertThat(documentIds(index.find("l", 0, 0, 10)), contains(3));
+    }
+
+    @Test
+    void findWordsInAnyOrderTest() {
+        assertThat(documentIds(index.find("bosch дрель", 0, 0, 10)), contains(1));
+        assertThat(documentIds(index.find("bosch дрель makita", 0, 0, 10)), empty());
+    }
+
+    @Test
+    void findInflectedFormsTest() {
+        index.put(new Document(5, "Ёлка искусственная", "Ёлочные игрушки в комплекте", 3, null));
+
+        assertThat(documentIds(index.find("дрели", 0, 0, 10)), contains(1));
+        assertThat(documentIds(index.find("hammer drills", 0, 0, 10)), contains(3));
+        assertThat(documentIds(index.find("елка", 0, 0, 10)), contains(5));
+        assertThat(documentIds(index.find("искусственные елки", 0, 0, 10)), contains(5));
+    }
+
+    @Test
+    void findPagesTest() {
+        assertThat(documentIds(index.find("дрель", 0, 1, 10)), contains(2));
+        assertThat(documentIds(index.find("дрель", 1, 0, 10)), contains(2));
+        assertThat(documentIds(index.find("дрель", 0, 0, 1)), contains(1));
+    }
+
+    @Test
+    void rankTest() {
+        index.put(new Document(5, "Дрель", "Дрель Зубр", 3, null));
+
+        assertThat(documentIds(index.rank("дрель", 0, 10)), contains(5, 1, 2));
+        assertThat(documentIds(index.rank("дрель", 1, 1)), contains(1));
+    }
+
+    @Test
+    void findFuzzyTest() {
+        assertThat(documentIds(index.find("дрелл bosh", 0, 0, 10)), empty());
+        assertThat(documentIds(index.findFuzzy("дрелл bosh", 0, 10)), contains(1));
+        assertThat(documentIds(index.findFuzzy("hamer", 0, 10)), contains(3));
+        assertThat(documentIds(index.findFuzzy("лобизк", 0, 10)), contains(4));
+        assertThat(documentIds(index.findFuzzy("дрель", 1, 10)), contains(2));
+    }
+
+    @Test
+    void rankFuzzyTest() {
+        index.put(new Document(5, "Дрель", "Дрель Зубр", 3, null));
+
+        assertThat(documentIds(index.rankFuzzy("дрелл", 0, 10)), contains(5, 1));
+    }
+
+    @Test
+    void correctTest() {
+        assertThat(index.correct("Hamer drll"), equalTo(Optional.of("hammer drill")));
+        assertThat(index.correct("дрелл бош"), equalTo(Optional.of("дрель бош")));
+        assertThat(index.correct("дрель bosch"), equalTo(Optional.empty()));
+
+        index.remove(4);
+        assertThat(index.correct("лобизк"), equalTo(Optional.empty()));
+        assertThat(documentIds(index.findFuzzy("лобизк", 0, 10)), empty());
+    }
+
+    @Test
+    void putReplacesTest() {
+        index.put(new Document(1, "Перфоратор", "Мощный", 1, null));
+
+        assertThat(documentIds(index.find("дрель", 0, 0, 10)), contains(2));
+        assertThat(documentIds(index.find("перфоратор", 0, 0, 10)), contains(1));
+    }
+
+    @Test
+    void removeTest() {
+        index.remove(2);
+
+        assertThat(documentIds(index.find("дрель", 0, 0, 10)), contains(1));
+        assertThat(documentIds(index.find("зарядкой", 0, 0, 10)), empty());
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import javax.validation.ValidationException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ItemSearchCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger searches = new AtomicInteger();
+    private ItemSearchCache cache;
+
+    @BeforeEach
+    void initialize() {
+        cache = new ItemSearchCache(new SearchCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void hitTest() {
+        search("Дрель", 0, 10);
+        search("дрель", 0, 10);
+        search("дрель", 10, 10);
+
+        assertThat(searches.get(), equalTo(2));
+        assertThat(count("hit"), equalTo(1.0));
+        assertThat(count("miss"), equalTo(2.0));
+    }
+
+    @Test
+    void evictMatchingOnlyTest() {
+        search("дрель", 0, 10);
+        search("лобзик", 0, 10);
+
+        cache.evict(item("Дрель Bosch", "Ударная", true));
+        search("дрель", 0, 10);
+        search("лобзик", 0, 10);
+
+        assertThat(searches.get(), equalTo(3));
+        assertThat(cache.size(), equalTo(2L));
+    }
+
+    @Test
+    void evictInflectedFormTest() {
+        search("дрели", 0, 10);
+        cache.slice("дрели", null, 10, this::result);
+
+        cache.evict(item("Дрель", "Ударная", true));
+
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+    @Test
+    void evictShortTextBySubstringTest() {
+        search("ab", 0, 10);
+
+        cache.evict(item("Xabc", "", true));
+
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+    @Test
+    void unavailableItemEvictsNothingTest() {
+        search("дрель", 0, 10);
+
+        cache.evict(item("Дрель", "Ударная", false));
+
+        assertThat(cache.size(), equalTo(1L));
+    }
+
+    @Test
+    void failedSearchUnfiledTest() {
+        assertThrows(ValidationException.class, () -> cache.page(SearchSort.ID, "дрель", 0, 10, () -> {
+            throw new ValidationException("Size must be positive");
+        }));
+
+        assertThat(cache.size(), equalTo(0L));
+        assertThat(cache.filedKeys(), equalTo(0));
+    }
+
+    @Test
+    void wildcardTextNotCachedTest() {
+        search("dr_ll", 0, 10);
+        search("dr_ll", 0, 10);
+        search("a%b", 0, 10);
+
+        assertThat(searches.get(), equalTo(3));
+        assertThat(cache.size(), equalTo(0L));
+        assertThat(cache.filedKeys(), equalTo(0));
+    }
+
+    @Test
+    void disabledTest() {
+        var properties = new SearchCacheProperties();
+        properties.setEnabled(false);
+        cache = new ItemSearchCache(properties, meterRegistry);
+
+        search("дрель", 0, 10);
+        search("дрель", 0, 10);
+
+        assertThat(searches.get(), equalTo(2));
+    }
+
+    private void search(String text, Integer from, Integer size) {
+        cache.page(SearchSort.ID, text, from, size, this::result);
+    }
+
+    private List<Integer> result() {
+        return List.of(searches.incrementAndGet());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", ItemSearchCache.NAME).tag("result", result)
+                .functionCounter().count();
+    }
+
+    private static Item item(String name, String description, boolean available) {
+        return Item.builder()
+                .id(1)
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(User.builder().id(1).build())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemSearchView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ItemSuggestionsTest {
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final ItemSuggestions suggestions = new ItemSuggestions(itemRepository, 2);
+
+    @Test
+    void savedFollowsRenameAndAvailabilityTest() {
+        suggestions.saved(item(1, "Дрель", true));
+        suggestions.saved(item(2, "Дрова", true));
+        assertThat(suggestions.suggest("др", 10), containsInAnyOrder("Дрель", "Дрова"));
+
+        suggestions.saved(item(1, "Палатка", true));
+        assertThat(suggestions.suggest("др", 10), contains("Дрова"));
+        assertThat(suggestions.suggest("пал", 10), contains("Палатка"));
+
+        suggestions.saved(item(1, "Палатка", false));
+        assertThat(suggestions.suggest("пал", 10), empty());
+    }
+
+    @Test
+    void suggestSizeCappedTest() {
+        suggestions.saved(item(1, "Дрель", true));
+        suggestions.saved(item(2, "Дрова", true));
+        suggestions.saved(item(3, "Дробь", true));
+
+        assertThat(suggestions.suggest("др", 10), hasSize(2));
+        assertThat(suggestions.suggest("др", 1), hasSize(1));
+        assertThat(suggestions.suggest(" ", 10), empty());
+    }
+
+    @Test
+    void removedForgetsNamesTest() {
+        suggestions.saved(item(1, "Дрель", true));
+        suggestions.saved(item(2, "Дрова", true));
+
+        suggestions.removed(List.of(1));
+
+        assertThat(suggestions.suggest("др", 10), contains("Дрова"));
+    }
+
+    @Test
+    void rebuildKeepsChangesCommittedDuringLoadTest() throws InterruptedException {
+        var saver = new Thread(() -> suggestions.saved(item(2, "Дрова", true)));
+        when(itemRepository.findSearchViews(eq(1), any())).thenReturn(List.of());
+        when(itemRepository.findSearchViews(eq(0), any())).thenAnswer(invocation -> {
+            saver.start();
+            saver.join(200);
+            return List.of(view(1, "Дрель"));
+        });
+
+        suggestions.rebuild();
+        saver.join();
+
+        assertThat(suggestions.suggest("др", 10), containsInAnyOrder("Дрель", "Дрова"));
+    }
+
+    private static ItemSearchView view(int id, String name) {
+        var view = mock(ItemSearchView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getName()).thenReturn(name);
+        return view;
+    }
+
+    private static Item item(int id, String name, boolean available) {
+        return Item.builder().id(id).name(name).available(available).build();
+    }
+}
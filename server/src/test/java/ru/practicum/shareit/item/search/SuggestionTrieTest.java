@@ -0,0 +1,95 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SuggestionTrieTest {
+    private final SuggestionTrie trie = new SuggestionTrie(3);
+
+    @Test
+    void completeByPrefixTest() {
+        trie.add("Дрель Bosch");
+        trie.add("Дрова");
+        trie.add("Палатка");
+
+        assertThat(trie.complete("др", 10), containsInAnyOrder("Дрель Bosch", "Дрова"));
+        assertThat(trie.complete("дре", 10), contains("Дрель Bosch"));
+        assertThat(trie.complete("дрел", 10), contains("Дрель Bosch"));
+        assertThat(trie.complete("дрека", 10), empty());
+        assertThat(trie.complete("x", 10), empty());
+    }
+
+    @Test
+    void completeByWordPrefixTest() {
+        trie.add("Дрель Bosch");
+        trie.add("Шуруповёрт BOSCH-18V");
+
+        assertThat(trie.complete("bos", 10), containsInAnyOrder("Дрель Bosch", "Шуруповёрт BOSCH-18V"));
+        assertThat(trie.complete("18", 10), contains("Шуруповёрт BOSCH-18V"));
+        assertThat(trie.complete("шуруповер", 10), contains("Шуруповёрт BOSCH-18V"));
+        assertThat(trie.complete("osch", 10), empty());
+    }
+
+    @Test
+    void popularNamesFirstTest() {
+        trie.add("Дрель");
+        trie.add("Дрова");
+        trie.add("дрова");
+        trie.add("Дрожжи");
+        trie.add("Дробь");
+        trie.add("Дробь");
+        trie.add("Дробь");
+
+        assertThat(trie.complete("д", 10), contains("Дробь", "Дрова", "Дрель"));
+        assertThat(trie.complete("д", 1), contains("Дробь"));
+        assertThat(trie.size(), equalTo(4));
+    }
+
+    @Test
+    void addWithCountTest() {
+        trie.add("Дрова", 2);
+        trie.add("Дробь", 3);
+        trie.add("дрова", 2);
+        trie.remove("Дрова");
+
+        assertThat(trie.complete("др", 10), contains("Дробь", "Дрова"));
+        assertThat(trie.size(), equalTo(2));
+    }
+
+    @Test
+    void removeTest() {
+        trie.add("Дробь");
+        trie.add("Дробь");
+        trie.add("Дрова");
+        trie.add("Дрель");
+        trie.add("Дрожжи");
+
+        trie.remove("Дробь");
+        assertThat(trie.complete("д", 10), hasItem("Дробь"));
+        trie.remove("Дробь");
+
+        assertThat(trie.complete("д", 10), containsInAnyOrder("Дрова", "Дрель", "Дрожжи"));
+        assertThat(trie.complete("дроб", 10), empty());
+        assertThat(trie.complete("дрож", 10), contains("Дрожжи"));
+        assertThat(trie.size(), equalTo(3));
+    }
+
+    @Test
+    void removeUnknownNameTest() {
+        trie.add("Дрель");
+
+        trie.remove("Палатка");
+
+        assertThat(trie.complete("дрель", 10), contains("Дрель"));
+    }
+
+    @Test
+    void blankNameIgnoredTest() {
+        trie.add("  ");
+
+        assertThat(trie.size(), equalTo(0));
+        assertThat(trie.complete("", 10), empty());
+    }
+}
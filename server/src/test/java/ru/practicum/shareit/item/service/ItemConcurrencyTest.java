@@ -0,0 +1,74 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemConcurrencyTest {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private UserDto owner;
+    private ItemDto item;
+
+    @BeforeEach
+    void initialize() {
+        owner = userService.save(new UserDto(null, "owner", "owner@concurrency.test"));
+        item = itemService.save(new ItemDto(null, "drill", "cordless", true, owner.getId(), null),
+                null, owner.getId());
+    }
+
+    @AfterEach
+    void cleanup() {
+        itemRepository.deleteById(item.getId());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void concurrentPatchesKeepEveryFieldTest() throws Exception {
+        var patches = List.of(
+                new ItemDto(item.getId(), "hammer drill", null, null, owner.getId(), null),
+                new ItemDto(item.getId(), null, "corded", null, owner.getId(), null),
+                new ItemDto(item.getId(), null, null, false, owner.getId(), null));
+        var executor = Executors.newFixedThreadPool(patches.size());
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<ItemDto>>();
+        for (var patch : patches)
+            results.add(executor.submit(() -> {
+                start.await();
+                return itemService.update(patch, owner.getId());
+            }));
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        for (var result : results)
+            result.get();
+
+        var updated = itemRepository.findById(item.getId()).orElseThrow();
+        assertThat(updated.getName(), equalTo("hammer drill"));
+        assertThat(updated.getDescription(), equalTo("corded"));
+        assertThat(updated.getAvailable(), equalTo(false));
+    }
+}
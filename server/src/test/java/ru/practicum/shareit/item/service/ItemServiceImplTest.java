@@ -0,0 +1,700 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.dto.FacetCountDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.search.SearchFilter;
+import ru.practicum.shareit.item.search.SearchSort;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.dto.BookingAllFieldsDto;
+import ru.practicum.shareit.booking.dto.BookingSavingDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.item.dto.ItemAllFieldsDto;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.utils.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+import javax.transaction.Transactional;
+import javax.validation.ValidationException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.equalTo;
+import static java.time.LocalDateTime.*;
+import static org.hamcrest.Matchers.*;
+import static java.util.List.*;
+import static java.util.stream.Collectors.toList;
+import static ru.practicum.shareit.utils.QueryCountAssertions.assertMaxQueries;
+
+@Transactional
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemServiceImplTest {
+    private final ItemRequestService itemRequestService;
+    private final BookingService bookingService;
+    private final EntityManager entityManager;
+    private final UserService userService;
+    private final ItemServiceImpl itemService;
+    private UserDto userDto;
+    private ItemDto itemDto;
+
+    @BeforeEach
+    void initialize() {
+        userDto = userService.save(
+                new UserDto(
+                        null,
+                        "Joe",
+                        "joe@mail.com")
+        );
+        itemDto = itemService.save(
+                new ItemDto(null,
+                        "Pen",
+                        "Blue Pen",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+    }
+
+    private CommentDto saveCommentDto(String commentText, UserDto userDto) {
+        var booker = userService.save(userDto);
+        var booking = bookingService.save(
+                new BookingSavingDto(
+                        null,
+                        now().minusSeconds(2),
+                        now().minusSeconds(1),
+                        itemDto.getId(),
+                        booker.getId(),
+                        null),
+                new ItemAllFieldsDto(
+                        itemDto.getId(),
+                        itemDto.getName(),
+                        itemDto.getDescription(),
+                        true,
+                        userDto.getId(),
+                        null,
+                        null,
+                        null,
+                        of()),
+                booker.getId()
+        );
+        bookingService.approve(booking.getId(), true, itemDto.getOwnerId());
+        var commentDto = new CommentDto(
+                null,
+                commentText,
+                itemDto.getId(),
+                booker.getName(),
+                now()
+        );
+        return itemService.saveComment(
+                commentDto,
+                commentDto.getItemId(),
+                booker.getId());
+    }
+
+
+    @Test
+    void saveTest() {
+        var item = entityManager.createQuery(
+                "SELECT item " +
+                        "FROM Item item",
+                Item.class).getSingleResult();
+        assertThat(item.getDescription(), equalTo(itemDto.getDescription()));
+        assertThat(item.getOwner().getId(), equalTo(itemDto.getOwnerId()));
+        assertThat(item.getAvailable(), equalTo(itemDto.getAvailable()));
+        assertThat(item.getName(), equalTo(itemDto.getName()));
+        assertThat(item.getId(), notNullValue());
+    }
+
+    @Test
+    void updateTest() {
+        var dto = new ItemDto(
+                itemDto.getId(),
+                "Bear",
+                "Soft toy",
+                false,
+                userDto.getId(),
+                null
+        );
+        itemService.update(dto, itemDto.getOwnerId());
+        var item = entityManager.createQuery(
+                "SELECT item " +
+                        "FROM Item item",
+                Item.class).getSingleResult();
+        assertThat(item.getDescription(), equalTo(dto.getDescription()));
+        assertThat(item.getOwner().getId(), equalTo(dto.getOwnerId()));
+        assertThat(item.getAvailable(), equalTo(dto.getAvailable()));
+        assertThat(item.getName(), equalTo(dto.getName()));
+        assertThat(item.getId(), notNullValue());
+    }
+
+    @Test
+    void updateStaleItemTest() {
+        entityManager.flush();
+        entityManager.clear();
+        var stale = entityManager.find(Item.class, itemDto.getId());
+        entityManager.detach(stale);
+        itemService.update(new ItemDto(itemDto.getId(), "Bear", null, null, userDto.getId(), null),
+                itemDto.getOwnerId());
+        entityManager.flush();
+        stale.setName("Fox");
+        assertThrows(OptimisticLockException.class, () -> {
+            entityManager.merge(stale);
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void getBookingViewTest() {
+        var view = itemService.getBookingView(itemDto.getId());
+        assertThat(view.getId(), equalTo(itemDto.getId()));
+        assertThat(view.getOwnerId(), equalTo(userDto.getId()));
+        assertThat(view.getAvailable(), equalTo(itemDto.getAvailable()));
+        assertThat(view.getName(), equalTo(itemDto.getName()));
+        var exception = assertThrows(NotFoundException.class, () -> itemService.getBookingView(-1));
+        assertEquals("Item with id#-1 does not exist", exception.getMessage());
+    }
+
+    @Test
+    void getTest() {
+        var itemAllFieldsDto = itemService.get(itemDto.getId(), itemDto.getOwnerId());
+        var item = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.id = :id " +
+                                "AND item.owner.id = :ownerId",
+                        Item.class)
+                .setParameter("ownerId", itemDto.getOwnerId())
+                .setParameter("id", itemDto.getId())
+                .getSingleResult();
+        assertThat(item.getDescription(), equalTo(itemAllFieldsDto.getDescription()));
+        assertThat(item.getOwner().getId(), equalTo(itemAllFieldsDto.getOwnerId()));
+        assertThat(item.getAvailable(), equalTo(itemAllFieldsDto.getAvailable()));
+        assertThat(item.getName(), equalTo(itemAllFieldsDto.getName()));
+        assertThat(item.getId(), notNullValue());
+    }
+
+    @Test
+    void getAllTest() {
+        itemDto = itemService.save(
+                new ItemDto(
+                        null,
+                        "Doll",
+                        "Tall doll",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var allItems = itemService.getAllItems(itemDto.getOwnerId(), 0, 2);
+        var items = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.owner.id = :ownerId",
+                        Item.class)
+                .setParameter("ownerId", itemDto.getOwnerId())
+                .getResultList();
+        assertThat(items.get(0).getId(), equalTo(allItems.get(0).getId()));
+        assertThat(items.size(), equalTo(allItems.size()));
+    }
+
+    @Test
+    void getAllAfterCursorTest() {
+        var second = itemService.save(
+                new ItemDto(
+                        null,
+                        "Doll",
+                        "Tall doll",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var firstPage = itemService.getAllItemsAfter(userDto.getId(), null, 1);
+        assertThat(firstPage.getContent().size(), equalTo(1));
+        assertThat(firstPage.getContent().get(0).getId(), equalTo(itemDto.getId()));
+        assertTrue(firstPage.hasNext());
+        var secondPage = itemService.getAllItemsAfter(userDto.getId(),
+                Cursor.next(firstPage, item -> Cursor.encode(item.getId())), 1);
+        assertThat(secondPage.getContent().get(0).getId(), equalTo(second.getId()));
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    void getAllWithLastAndNextBookingTest() {
+        var booker = userService.save(
+                new UserDto(
+                        null,
+                        "Ann",
+                        "ann@mail.com")
+        );
+        var itemAllFieldsDto = new ItemAllFieldsDto(
+                itemDto.getId(),
+                itemDto.getName(),
+                itemDto.getDescription(),
+                true,
+                userDto.getId(),
+                null,
+                null,
+                null,
+                of());
+        var last = bookingService.save(
+                new BookingSavingDto(null, now().minusSeconds(2), now().minusSeconds(1),
+                        itemDto.getId(), booker.getId(), null),
+                itemAllFieldsDto,
+                booker.getId());
+        var next = bookingService.save(
+                new BookingSavingDto(null, now().plusHours(1), now().plusHours(2),
+                        itemDto.getId(), booker.getId(), null),
+                itemAllFieldsDto,
+                booker.getId());
+        entityManager.flush();
+        entityManager.clear();
+        var allItems = assertMaxQueries(3, () -> itemService.getAllItems(userDto.getId(), null, null));
+        assertThat(allItems.size(), equalTo(1));
+        assertThat(allItems.get(0).getLastBooking().getId(), equalTo(last.getId()));
+        assertThat(allItems.get(0).getNextBooking().getId(), equalTo(next.getId()));
+        assertThat(allItems.get(0).getComments(), empty());
+    }
+
+    @Test
+    void getAllKeepsRejectedNextBookingTest() {
+        var booker = userService.save(
+                new UserDto(
+                        null,
+                        "Ann",
+                        "ann@mail.com")
+        );
+        var itemAllFieldsDto = new ItemAllFieldsDto(
+                itemDto.getId(),
+                itemDto.getName(),
+                itemDto.getDescription(),
+                true,
+                userDto.getId(),
+                null,
+                null,
+                null,
+                of());
+        var next = bookingService.save(
+                new BookingSavingDto(null, now().plusHours(1), now().plusHours(2),
+                        itemDto.getId(), booker.getId(), null),
+                itemAllFieldsDto,
+                booker.getId());
+        bookingService.approve(next.getId(), false, userDto.getId());
+        var allItems = itemService.getAllItems(userDto.getId(), null, null);
+        assertThat(allItems.get(0).getNextBooking().getId(), equalTo(next.getId()));
+    }
+
+    @Test
+    void searchNotAvailableItemTest() {
+        itemDto = itemService.save(
+                new ItemDto(
+                        null,
+                        "Truck",
+                        "Big truck",
+                        false,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var itemDtos = itemService.search("truck", itemDto.getOwnerId(), 0, 2);
+        var items = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.available = TRUE AND (UPPER(item.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+                                "OR UPPER(item.description) LIKE UPPER(CONCAT('%', :text, '%')))",
+                        Item.class)
+                .setParameter("text", "car")
+                .getResultList();
+        assertThat(items.size(), equalTo(itemDtos.size()));
+        assertThat(items, empty());
+    }
+
+    @Test
+    void searchTest() {
+        itemDto = itemService.save(
+                new ItemDto(
+                        1,
+                        "Car",
+                        "Red car",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var itemDtos = itemService.search("car", itemDto.getOwnerId(), 0, 2);
+        var items = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.available = TRUE AND (UPPER(item.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+                                "OR UPPER(item.description) LIKE UPPER(CONCAT('%', :text, '%')))",
+                        Item.class)
+                .setParameter("text", "car")
+                .getResultList();
+        assertThat(items.get(0).getId(), equalTo(itemDtos.get(0).getId()));
+        assertThat(items.size(), equalTo(itemDtos.size()));
+    }
+
+    @Test
+    void searchByRelevanceTest() {
+        var inDescription = itemService.save(
+                new ItemDto(null, "Trailer", "Tows a wakeboat", true, userDto.getId(), null),
+                null,
+                userDto.getId());
+        var inName = itemService.save(
+                new ItemDto(null, "Wakeboat", "Fast", true, userDto.getId(), null),
+                null,
+                userDto.getId());
+
+        var itemDtos = itemService.searchByRelevance("wakeboat", userDto.getId(), 0, 10);
+
+        assertThat(itemDtos.stream().map(ItemDto::getId).collect(toList()),
+                contains(inName.getId(), inDescription.getId()));
+        assertThat(itemService.searchByRelevance("wakeboat", userDto.getId(), 1, 1).get(0).getId(),
+                equalTo(inDescription.getId()));
+    }
+
+    @Test
+    void facetsAndFilteredSearchTest() {
+        var other = userService.save(new UserDto(null, "Ann", "ann@mail.com"));
+        var booker = userService.save(new UserDto(null, "Bob", "bob@mail.com"));
+        var kayak = itemService.save(
+                new ItemDto(null, "Kayak", "Sea kayak", true, userDto.getId(), null),
+                null,
+                userDto.getId());
+        var otherKayak = itemService.save(
+                new ItemDto(null, "Double kayak", "Two seats", true, other.getId(), null),
+                null,
+                other.getId());
+        book(kayak, booker, now().plusDays(1), now().plusDays(2));
+
+        var facets = itemService.facets("kayak", false, SearchFilter.NONE, userDto.getId());
+
+        assertThat(facets.getTotal(), equalTo(2));
+        assertThat(facets.getOwner(), containsInAnyOrder(
+                new FacetCountDto(userDto.getId().toString(), 1), new FacetCountDto(other.getId().toString(), 1)));
+        assertThat(facets.getRequest(), contains(new FacetCountDto("true", 0), new FacetCountDto("false", 2)));
+        assertThat(facets.getWindow(), contains(new FacetCountDto("now", 2), new FacetCountDto("week", 1),
+                new FacetCountDto("month", 1)));
+
+        var week = SearchFilter.of(null, null, "week");
+        assertThat(itemService.searchFiltered("kayak", SearchSort.ID, false, week, userDto.getId(), null, null)
+                .stream().map(ItemDto::getId).collect(toList()), contains(otherKayak.getId()));
+        var byOwner = itemService.facets("kayak", false, SearchFilter.of(userDto.getId(), null, null), userDto.getId());
+        assertThat(byOwner.getTotal(), equalTo(1));
+        assertThat(byOwner.getOwner(), hasSize(2));
+        assertThat(byOwner.getWindow(), hasItem(new FacetCountDto("week", 0)));
+
+        var otherNotAnswering = SearchFilter.of(other.getId(), false, null);
+        assertThat(itemService.searchFiltered("kayak", SearchSort.ID, false, otherNotAnswering, userDto.getId(), 0, 10),
+                contains(otherKayak));
+        var answering = SearchFilter.of(null, true, null);
+        assertThat(itemService.searchFiltered("kayak", SearchSort.ID, false, answering, userDto.getId(), 0, 10),
+                empty());
+        var mine = SearchFilter.of(userDto.getId(), null, null);
+        assertThat(itemService.searchFiltered("kayak", SearchSort.RELEVANCE, false, mine, userDto.getId(), 0, 10),
+                contains(kayak));
+    }
+
+    @Test
+    void searchFreeTest() {
+        var booker = userService.save(new UserDto(null, "Bob", "bob@mail.com"));
+        var from = now().plusDays(10).truncatedTo(ChronoUnit.SECONDS);
+        var to = from.plusDays(2);
+        var approved = saveItem("Canoe red");
+        var rejected = saveItem("Canoe blue");
+        var waiting = saveItem("Canoe green");
+        var later = saveItem("Canoe white");
+        var adjacent = saveItem("Canoe black");
+        var free = saveItem("Canoe yellow");
+        bookingService.approve(book(approved, booker, from.minusDays(1), from.plusHours(1)).getId(), true,
+                userDto.getId());
+        bookingService.approve(book(rejected, booker, from, to).getId(), false, userDto.getId());
+        book(waiting, booker, to.minusHours(1), to.plusDays(1));
+        book(later, booker, to.plusDays(1), to.plusDays(2));
+        book(adjacent, booker, to, to.plusDays(1));
+        var period = SearchFilter.of(null, null, null, from, to);
+
+        assertThat(itemService.searchFiltered("canoe", SearchSort.ID, false, period, userDto.getId(), null, null)
+                        .stream().map(ItemDto::getId).collect(toList()),
+                contains(rejected.getId(), later.getId(), adjacent.getId(), free.getId()));
+        assertThat(itemService.searchFiltered("canoe", SearchSort.ID, false, period, userDto.getId(), 2, 2)
+                        .stream().map(ItemDto::getId).collect(toList()),
+                contains(adjacent.getId(), free.getId()));
+        var periodAndOwner = SearchFilter.of(userDto.getId(), null, null, from, to);
+        assertThat(itemService.searchFiltered("canoe", SearchSort.ID, false, periodAndOwner, userDto.getId(), 0, 10),
+                hasSize(4));
+        assertThat(itemService.facets("canoe", false, period, userDto.getId()).getTotal(), equalTo(4));
+        assertThrows(ValidationException.class, () -> itemService.searchFiltered("canoe", SearchSort.RELEVANCE,
+                false, period, userDto.getId(), 0, 10));
+    }
+
+    private ItemDto saveItem(String name) {
+        return itemService.save(new ItemDto(null, name, name, true, userDto.getId(), null), null, userDto.getId());
+    }
+
+    private BookingAllFieldsDto book(ItemDto item, UserDto booker, LocalDateTime start, LocalDateTime end) {
+        return bookingService.save(
+                new BookingSavingDto(null, start, end, item.getId(), booker.getId(), null),
+                new ItemAllFieldsDto(item.getId(), item.getName(), item.getDescription(), true,
+                        item.getOwnerId(), null, null, null, of()),
+                booker.getId());
+    }
+
+    @Test
+    void searchAfterCursorTest() {
+        var second = itemService.save(
+                new ItemDto(
+                        null,
+                        "Pencil",
+                        "Red pencil",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var firstPage = itemService.searchAfter("pen", userDto.getId(), "", 1);
+        assertThat(firstPage.getContent().get(0).getId(), equalTo(itemDto.getId()));
+        assertTrue(firstPage.hasNext());
+        var secondPage = itemService.searchAfter("pen", userDto.getId(),
+                Cursor.next(firstPage, item -> Cursor.encode(item.getId())), 1);
+        assertThat(secondPage.getContent().get(0).getId(), equalTo(second.getId()));
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    void searchNotPagableTest() {
+        itemDto = itemService.save(
+                new ItemDto(
+                        1,
+                        "Car",
+                        "Red car",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var itemDtos = itemService.search("car", itemDto.getOwnerId(), null, null);
+        var items = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.available = TRUE AND (UPPER(item.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+                                "OR UPPER(item.description) LIKE UPPER(CONCAT('%', :text, '%')))",
+                        Item.class)
+                .setParameter("text", "car")
+                .getResultList();
+        assertThat(items.get(0).getId(), equalTo(itemDtos.get(0).getId()));
+        assertThat(items.size(), equalTo(itemDtos.size()));
+    }
+
+    @Test
+    void getItemsByRequestIdTest() {
+        var requester = userService.save(
+                new UserDto(
+                        null,
+                        "Abby",
+                        "abby@mail.com")
+        );
+        var itemRequestDto = itemRequestService.save(
+                new ItemRequestDto(
+                        null,
+                        "I need it",
+                        requester.getId(),
+                        now(),
+                        of()),
+                requester.getId()
+        );
+        itemService.save(
+                new ItemDto(
+                        null,
+                        "Thing",
+                        "Little thing",
+                        true,
+                        userDto.getId(),
+                        null),
+                itemRequestDto,
+                userDto.getId()
+        );
+        var itemsByRequestId = itemService.getItemsByRequestId(itemRequestDto.getId());
+        var itemsByRequest = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.request.id = :requestId",
+                        Item.class)
+                .setParameter("requestId", itemRequestDto.getId())
+                .getResultList();
+        assertThat(itemsByRequestId.size(), equalTo(itemsByRequest.size()));
+        assertThat(itemsByRequestId.size(), equalTo(0));
+        assertThat(itemsByRequestId, notNullValue());
+    }
+
+    @Test
+    void searchEmptyResultTest() {
+        itemDto = itemService.save(
+                new ItemDto(
+                        null,
+                        "House",
+                        "Big house",
+                        true,
+                        userDto.getId(),
+                        null),
+                null,
+                userDto.getId()
+        );
+        var itemDtos = itemService.search("nothing", itemDto.getOwnerId(), 0, 2);
+        var items = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.available = TRUE AND (UPPER(item.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+                                "OR UPPER(item.description) LIKE UPPER(CONCAT('%', :text, '%')))",
+                        Item.class)
+                .setParameter("text", "nothing")
+                .getResultList();
+        assertThat(items.size(), equalTo(itemDtos.size()));
+        assertThat(items, empty());
+    }
+
+    @Test
+    void saveCommentTest() {
+        var commentDto = saveCommentDto(
+                "Hello there",
+                new UserDto(
+                        15,
+                        "Douglas",
+                        "douglas@mail.com")
+        );
+        var comment = entityManager.createQuery(
+                "SELECT comment " +
+                        "FROM Comment comment",
+                Comment.class).getSingleResult();
+        assertThat(comment.getAuthor().getName(), equalTo(commentDto.getAuthorName()));
+        assertThat(comment.getItem().getId(), equalTo(commentDto.getItemId()));
+        assertThat(comment.getText(), equalTo(commentDto.getText()));
+        assertThat(comment.getId(), equalTo(commentDto.getId()));
+        assertThat(comment.getId(), notNullValue());
+    }
+
+    @Test
+    void saveCommentWithoutApprovedBookingTest() {
+        var booker = userService.save(new UserDto(null, "Mia", "mia@mail.com"));
+        bookingService.save(
+                new BookingSavingDto(null, now().minusSeconds(2), now().minusSeconds(1), itemDto.getId(),
+                        booker.getId(), null),
+                itemDto,
+                booker.getId());
+        var commentDto = new CommentDto(null, "Not yet", itemDto.getId(), booker.getName(), now());
+        var exception = assertThrows(ValidationException.class,
+                () -> itemService.saveComment(commentDto, itemDto.getId(), booker.getId()));
+        assertEquals("User cannot make comments", exception.getMessage());
+    }
+
+    @Test
+    void getItemByRequestTest() {
+        List<ItemRequest> items = new ArrayList<>();
+        List<ItemDto> itemRequest = itemService.getItemsByRequests(items);
+        assertThat(itemRequest.size(), equalTo(0));
+    }
+
+    @Test
+    void getItemsByRequestIdEmptyResultTest() {
+        var requester = userService.save(
+                new UserDto(
+                        null,
+                        "Zoe",
+                        "zoe@mail.com")
+        );
+        var itemRequestDto = itemRequestService.save(
+                new ItemRequestDto(
+                        null,
+                        "I need it",
+                        requester.getId(),
+                        now(),
+                        of()),
+                requester.getId()
+        );
+        var itemsByRequestId = itemService.getItemsByRequestId(itemRequestDto.getId());
+        var itemsByRequest = entityManager.createQuery(
+                        "SELECT item " +
+                                "FROM Item item " +
+                                "WHERE item.request.id = :requestId",
+                        Item.class)
+                .setParameter("requestId", itemRequestDto.getId())
+                .getResultList();
+        assertThat(itemsByRequestId.size(), equalTo(itemsByRequest.size()));
+        assertThat(itemsByRequestId, empty());
+    }
+
+    @Test
+    void getItemsByRequestsTest() {
+        List<ItemRequest> itemRequest = new ArrayList<>();
+        List<ItemDto> requests = itemService.getItemsByRequests(itemRequest);
+        assertNotNull(requests);;
+    }
+
+    @Test
+    void getAllCommentsTest() {
+        var comments = itemService.getAllComments();
+        assertNotNull(comments);
+    }
+
+    @Test
+    void getAllItemsTest() {
+        List<ItemDtoWithBooking> items = itemService.getAllItems(1,1,1);
+        assertNotNull(items);
+    }
+
+    @Test
+    void getNotFoundExceptionTest() {
+        final Integer id = 7;
+        var exception = assertThrows(NotFoundException.class,
+                () -> itemService.get(id, userDto.getId()));
+        assertEquals("Item with id#" + id + " does not exist", exception.getMessage());
+    }
+
+    @Test
+    void validateItemTest() {
+        ItemDto itemDto = new ItemDto(1, null, "test", true, 1, null);
+        ItemDto itemDto1 = new ItemDto(2, "test", null, true, 1, null);
+        ItemDto itemDto2 = new ItemDto(3, "test", "test", null, 1, null);
+
+
+        var exception = assertThrows(ValidationException.class,
+                () -> itemService.validateItem(itemDto));
+        assertEquals("Name cannot be blank", exception.getMessage());
+
+        var exception1 = assertThrows(ValidationException.class,
+                () -> itemService.validateItem(itemDto1));
+        assertEquals("Name cannot be blank", exception.getMessage());
+
+        var exception2 = assertThrows(ValidationException.class,
+                () -> itemService.validateItem(itemDto2));
+        assertEquals("Name cannot be blank", exception.getMessage());
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.user.dto;
+
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JsonTest
+class UserDtoTest {
+    @Autowired
+    private JacksonTester<UserDto> json;
+
+    @Test
+    void userDtoTest() throws Exception {
+        UserDto userDto = new UserDto(
+                1,
+                "Maggie",
+                "maggie@mail.com");
+
+        var jsonContent = json.write(userDto);
+        assertThat(jsonContent).extractingJsonPathStringValue("$.email")
+                .isEqualTo(userDto.getEmail());
+        assertThat(jsonContent).extractingJsonPathStringValue("$.name")
+                .isEqualTo(userDto.getName());
+        assertThat(jsonContent).extractingJsonPathNumberValue("$.id")
+                .isEqualTo(userDto.getId().intValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ValidationException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorTest {
+
+    @Test
+    void encodeDecodeIdTest() {
+        var cursor = Cursor.decode(Cursor.encode(42));
+        assertNull(cursor.getKey());
+        assertEquals(42, cursor.getId());
+    }
+
+    @Test
+    void encodeDecodeKeyTest() {
+        var created = LocalDateTime.of(2022, 10, 15, 13, 44, 17);
+        var cursor = Cursor.decode(Cursor.encode(created, 7));
+        assertEquals(created, LocalDateTime.parse(cursor.getKey()));
+        assertEquals(7, cursor.getId());
+    }
+
+    @Test
+    void decodeFirstPageTest() {
+        assertNull(Cursor.decode(""));
+        assertNull(Cursor.decode(null));
+    }
+
+    @Test
+    void decodeIncorrectCursorTest() {
+        assertThrows(ValidationException.class, () -> Cursor.decode("???"));
+    }
+}
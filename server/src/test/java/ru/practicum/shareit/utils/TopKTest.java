@@ -0,0 +1,37 @@
+package ru.practicum.shareit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class TopKTest {
+
+    @Test
+    void keepsBestInOrderTest() {
+        var top = new TopK<Integer>(3, Comparator.reverseOrder());
+        List.of(5, 1, 9, 3, 7, 9, 2).forEach(top::add);
+
+        assertThat(top.toList(), contains(9, 9, 7));
+    }
+
+    @Test
+    void fewerValuesThanKTest() {
+        var top = new TopK<Integer>(10, Comparator.naturalOrder());
+        List.of(3, 1, 2).forEach(top::add);
+
+        assertThat(top.toList(), contains(1, 2, 3));
+    }
+
+    @Test
+    void zeroKTest() {
+        var top = new TopK<Integer>(0, Comparator.naturalOrder());
+        top.add(1);
+
+        assertThat(top.toList(), empty());
+    }
+}